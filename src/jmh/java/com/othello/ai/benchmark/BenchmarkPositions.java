@@ -0,0 +1,27 @@
+package com.othello.ai.benchmark;
+
+import com.othello.ai.engine.PositionSuite;
+
+import java.util.List;
+
+/**
+ * 벤치마크 @Param 국면 이름 → 고정 포지션 목록
+ */
+final class BenchmarkPositions {
+
+    private BenchmarkPositions() {
+    }
+
+    static List<PositionSuite.Position> forPhase(String phase) {
+        switch (phase) {
+            case "opening":
+                return PositionSuite.OPENING;
+            case "midgame":
+                return PositionSuite.MIDGAME;
+            case "endgame":
+                return PositionSuite.ENDGAME;
+            default:
+                throw new IllegalArgumentException("Unknown phase: " + phase);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.othello.ai.benchmark;
+
+import com.othello.ai.engine.Bitboard;
+import com.othello.ai.engine.BoardFeatures;
+import com.othello.ai.engine.Evaluator;
+import com.othello.ai.engine.HeuristicEvaluator;
+import com.othello.ai.engine.PatternEvaluator;
+import com.othello.ai.engine.PatternWeights;
+import com.othello.ai.engine.PositionSuite;
+import com.othello.ai.service.OthelloGameEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔진 핫 패스 벤치마크 (수 생성, 착수, 게임 종료 판정, 평가 함수와 평가 특징)
+ * 호출마다 해당 국면의 포지션을 차례로 돌아가며 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"opening", "midgame", "endgame"})
+    private String phase;
+
+    private final OthelloGameEngine engine = new OthelloGameEngine();
+    private final Evaluator evaluator = new HeuristicEvaluator();
+    private final Evaluator patternEvaluator = new PatternEvaluator(PatternWeights.generateDefault());
+
+    private String[] boards;
+    private char[] turns;
+    private long[] players;
+    private long[] opponents;
+    private int[] moveRows;
+    private int[] moveCols;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        List<PositionSuite.Position> positions = BenchmarkPositions.forPhase(phase);
+        int count = positions.size();
+        boards = new String[count];
+        turns = new char[count];
+        players = new long[count];
+        opponents = new long[count];
+        moveRows = new int[count];
+        moveCols = new int[count];
+        for (int i = 0; i < count; i++) {
+            PositionSuite.Position position = positions.get(i);
+            boards[i] = position.getBoardState();
+            turns[i] = position.getTurn();
+            players[i] = position.player();
+            opponents[i] = position.opponent();
+            // 착수 벤치마크에는 첫 번째 합법 수를 사용
+            int square = Long.numberOfTrailingZeros(Bitboard.legalMoves(players[i], opponents[i]));
+            moveRows[i] = Bitboard.row(square);
+            moveCols[i] = Bitboard.col(square);
+        }
+    }
+
+    private int next() {
+        int i = index;
+        index = i + 1 == boards.length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public List<int[]> getValidMoves() {
+        int i = next();
+        return engine.getValidMoves(boards[i], turns[i]);
+    }
+
+    @Benchmark
+    public String makeMove() {
+        int i = next();
+        return engine.makeMove(boards[i], moveRows[i], moveCols[i], turns[i]);
+    }
+
+    @Benchmark
+    public boolean isGameOver() {
+        return engine.isGameOver(boards[next()]);
+    }
+
+    @Benchmark
+    public long legalMoves() {
+        int i = next();
+        return Bitboard.legalMoves(players[i], opponents[i]);
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int i = next();
+        return evaluator.evaluate(players[i], opponents[i]);
+    }
+
+    @Benchmark
+    public int evaluatePattern() {
+        int i = next();
+        return patternEvaluator.evaluate(players[i], opponents[i]);
+    }
+
+    @Benchmark
+    public int potentialMobility() {
+        int i = next();
+        return BoardFeatures.potentialMobility(players[i], opponents[i]);
+    }
+
+    @Benchmark
+    public long stableDiscs() {
+        int i = next();
+        return BoardFeatures.stableDiscs(players[i], opponents[i]);
+    }
+}
@@ -0,0 +1,87 @@
+package com.othello.ai.benchmark;
+
+import com.othello.ai.config.AIProperties;
+import com.othello.ai.engine.MoveResultCache;
+import com.othello.ai.engine.OpeningBook;
+import com.othello.ai.engine.PatternEvaluator;
+import com.othello.ai.engine.PatternWeights;
+import com.othello.ai.engine.PositionSuite;
+import com.othello.ai.engine.SearchResult;
+import com.othello.ai.engine.TranspositionTable;
+import com.othello.ai.service.MoveSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 한 수 탐색 전체(getNextMove의 탐색 부분) 난이도별 지연 시간 벤치마크
+ * OpenAI 코멘트 호출은 제외하고, 시간 제한에 걸리지 않도록 넉넉한 시간을 줘서 난이도 깊이까지 끝까지 탐색한다.
+ * 매 호출 전에 트랜스포지션 테이블을 비우고 결과 캐시는 꺼서 이전 호출의 결과를 재사용하지 않게 한다.
+ * 백분위 지연 시간은 -bm sample 로 확인.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MoveSearchBenchmark {
+
+    private static final int TIME_LIMIT_MS = 60_000;
+
+    @Param({"opening", "midgame", "endgame"})
+    private String phase;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    private int difficulty;
+
+    private TranspositionTable transpositionTable;
+    private ForkJoinPool pool;
+    private MoveSearchService moveSearchService;
+    private List<PositionSuite.Position> positions;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AIProperties properties = new AIProperties();
+        properties.getSearch().setTimeLimitMs(TIME_LIMIT_MS);
+        properties.getSearch().setMaxTimeLimitMs(TIME_LIMIT_MS);
+        transpositionTable = new TranspositionTable(16);
+        pool = new ForkJoinPool(Math.max(1, properties.getSearch().getParallel().getThreads()));
+        moveSearchService = new MoveSearchService(properties,
+                new PatternEvaluator(PatternWeights.generateDefault()), transpositionTable, OpeningBook.empty(),
+                new MoveResultCache(0), pool);
+        positions = BenchmarkPositions.forPhase(phase);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        transpositionTable.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public SearchResult findBestMove() {
+        PositionSuite.Position position = positions.get(index);
+        index = (index + 1) % positions.size();
+        return moveSearchService.findBestMove(position.getBoardState(), position.getTurn(), difficulty, TIME_LIMIT_MS);
+    }
+}
@@ -0,0 +1,125 @@
+package com.othello.ai.client;
+
+/**
+ * 외부 호출용 서킷 브레이커 (최근 windowSize번 호출 기준)
+ * 실패(느린 호출 포함) 비율이 기준을 넘으면 열려서 openMs 동안 호출을 막고,
+ * 그 뒤 한 번만 시험 호출을 허용해 성공하면 닫고 실패하면 다시 연다.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** tryAcquire가 호출을 막았을 때의 값 */
+    public static final long REJECTED = -1;
+
+    private final int failureRatePercent;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int calls;
+    private int failures;
+    private int next;
+    private long openedAt;
+    private boolean trialInFlight;
+    private long generation;        // 상태가 바뀔 때마다 증가, 허가 번호로 쓰임
+
+    public CircuitBreaker(int windowSize, int failureRatePercent, long slowCallMs, long openMs) {
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallNanos = slowCallMs * 1_000_000L;
+        this.openNanos = openMs * 1_000_000L;
+    }
+
+    /**
+     * 호출해도 되는지 확인. 허락하면 허가 번호(0 이상)를, 막으면 REJECTED를 반환한다.
+     * 허가를 받았으면 어떻게 끝나든 그 번호로 onSuccess/onFailure를 반드시 알려야 한다
+     * (알리지 않으면 시험 호출이 끝나지 않은 것으로 남아 회로가 계속 막힌다).
+     */
+    public synchronized long tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return generation;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return REJECTED;
+                }
+                transition(State.HALF_OPEN);
+                trialInFlight = true;
+                return generation;
+            default:
+                if (trialInFlight) {
+                    return REJECTED;
+                }
+                trialInFlight = true;
+                return generation;
+        }
+    }
+
+    public synchronized void onSuccess(long permit, long elapsedNanos) {
+        record(permit, elapsedNanos >= slowCallNanos);
+    }
+
+    public synchronized void onFailure(long permit) {
+        record(permit, true);
+    }
+
+    private void record(long permit, boolean failed) {
+        // 상태가 바뀌기 전에 허가받은 호출의 결과는 버림 (닫혀 있을 때 시작한 느린 호출이 시험 호출로 세어지지 않도록)
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            if (failed) {
+                open();
+            } else {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (calls == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+
+        // 창이 찰 때까지는 판단하지 않음 (첫 몇 번의 실패로 바로 열리지 않도록)
+        if (calls == window.length && failures * 100 >= failureRatePercent * calls) {
+            open();
+        }
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        transition(State.CLOSED);
+        calls = 0;
+        failures = 0;
+        next = 0;
+    }
+
+    private void transition(State next) {
+        state = next;
+        generation++;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
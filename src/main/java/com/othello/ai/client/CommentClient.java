@@ -0,0 +1,152 @@
+package com.othello.ai.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 격려 멘트용 OpenAI Chat Completions 클라이언트
+ * 동시 호출 수 제한(벌크헤드)과 서킷 브레이커를 거쳐 호출하고, 막히거나 실패하면 빈 결과를 반환한다.
+ * 타임아웃과 커넥션 풀은 넘겨받은 RestTemplate 설정을 따른다 (AppConfig.commentClient).
+ */
+public class CommentClient {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentClient.class);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String apiUrl;
+    private final String apiKey;
+    private final String model;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+
+    public CommentClient(RestTemplate restTemplate, ObjectMapper objectMapper, String apiUrl, String apiKey,
+                         String model, int maxConcurrentCalls, CircuitBreaker circuitBreaker) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 멘트 요청. 동시 호출이 가득 찼거나 회로가 열렸거나 호출이 실패하면 빈 결과.
+     */
+    public Optional<String> requestComment(String systemPrompt, String userPrompt) {
+        return execute(systemPrompt, userPrompt, content -> {
+            JsonNode comment = content.path("comment");
+            if (!comment.isTextual() || comment.asText().isBlank()) {
+                throw new IllegalStateException("No comment in response");
+            }
+            return comment.asText();
+        });
+    }
+
+    /**
+     * 멘트 여러 개를 한 번에 요청 (응답 JSON의 "comments" 배열). 실패 조건은 requestComment와 같다.
+     */
+    public Optional<List<String>> requestComments(String systemPrompt, String userPrompt) {
+        return execute(systemPrompt, userPrompt, content -> {
+            List<String> comments = new ArrayList<>();
+            for (JsonNode comment : content.path("comments")) {
+                if (comment.isTextual() && !comment.asText().isBlank()) {
+                    comments.add(comment.asText());
+                }
+            }
+            if (comments.isEmpty()) {
+                throw new IllegalStateException("No comments in response");
+            }
+            return comments;
+        });
+    }
+
+    private <T> Optional<T> execute(String systemPrompt, String userPrompt, ContentParser<T> parser) {
+        if (!bulkhead.tryAcquire()) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        try {
+            long permit = circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.REJECTED) {
+                shortCircuited.increment();
+                return Optional.empty();
+            }
+            calls.increment();
+            long startedAt = System.nanoTime();
+            boolean succeeded = false;
+            try {
+                T result = parser.parse(call(systemPrompt, userPrompt));
+                succeeded = true;
+                return Optional.of(result);
+            } catch (Exception e) {
+                failures.increment();
+                log.warn("Comment API call failed: {}", e.toString());
+                return Optional.empty();
+            } finally {
+                // Error로 끝나도 결과를 알려야 시험 호출(HALF_OPEN)이 풀린다
+                if (succeeded) {
+                    circuitBreaker.onSuccess(permit, System.nanoTime() - startedAt);
+                } else {
+                    circuitBreaker.onFailure(permit);
+                }
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 호출하고 응답 메시지 내용(JSON)을 반환
+     */
+    private JsonNode call(String systemPrompt, String userPrompt) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", model);
+
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of("role", "system", "content", systemPrompt));
+        messages.add(Map.of("role", "user", "content", userPrompt));
+
+        body.put("messages", messages);
+        body.put("response_format", Map.of("type", "json_object"));
+
+        String responseStr = restTemplate.postForObject(apiUrl, new HttpEntity<>(body, headers), String.class);
+        JsonNode root = objectMapper.readTree(responseStr);
+        String content = root.path("choices").get(0).path("message").path("content").asText();
+        return objectMapper.readTree(content);
+    }
+
+    public CircuitBreaker.State getCircuitState() { return circuitBreaker.getState(); }
+    public long getCalls() { return calls.sum(); }
+    public long getFailures() { return failures.sum(); }
+    public long getRejected() { return rejected.sum(); }
+    public long getShortCircuited() { return shortCircuited.sum(); }
+
+    private interface ContentParser<T> {
+        T parse(JsonNode content) throws Exception;
+    }
+}
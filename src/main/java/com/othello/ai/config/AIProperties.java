@@ -0,0 +1,98 @@
+package com.othello.ai.config;
+
+import com.othello.ai.engine.EvaluatorType;
+import com.othello.ai.engine.SearchAlgorithm;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 탐색 설정 (application.yml의 ai.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "ai")
+public class AIProperties {
+
+    private Search search = new Search();
+    private Endgame endgame = new Endgame();
+    private Eval eval = new Eval();
+    private Book book = new Book();
+    private Cache cache = new Cache();
+    private Async async = new Async();
+    private Comment comment = new Comment();
+
+    @Data
+    public static class Search {
+        private int ttSizeMb = 64;              // 트랜스포지션 테이블 크기 (MB)
+        private boolean ttStats = false;        // 트랜스포지션 테이블 조회/저장 통계 (켜면 탐색 스레드 간 카운터 경합)
+        private int timeLimitMs = 1000;         // 한 수당 기본 탐색 시간
+        private int maxTimeLimitMs = 3000;      // 요청으로 늘릴 수 있는 최대 탐색 시간
+        private boolean moveOrdering = true;
+        private SearchAlgorithm algorithm = SearchAlgorithm.PVS;
+        private Parallel parallel = new Parallel();
+    }
+
+    @Data
+    public static class Parallel {
+        private int threads = 1;                // 요청 하나에 쓰는 탐색 스레드 수
+        private int minDifficulty = 6;          // 병렬 탐색을 적용할 최소 난이도
+        private int poolSize = 0;               // 보조 탐색 스레드 풀 크기 (0이면 CPU 코어 수)
+    }
+
+    @Data
+    public static class Endgame {
+        private int empties = 14;               // 종반 완전 탐색을 시작할 빈 칸 수
+        private int minDifficulty = 5;          // 종반 완전 탐색을 적용할 최소 난이도
+    }
+
+    @Data
+    public static class Eval {
+        private EvaluatorType type = EvaluatorType.PATTERN;
+        private String weights = "";            // 패턴 가중치 파일 위치 (비우면 기본 가중치 생성)
+    }
+
+    @Data
+    public static class Book {
+        private String path = "data/opening-book.bin";  // 오프닝 북 파일 (없으면 북 없이 탐색)
+        private int minDifficulty = 3;          // 오프닝 북을 쓸 최소 난이도
+    }
+
+    @Data
+    public static class Cache {
+        private int maxEntries = 10000;         // AI 수 결과 캐시 최대 개수 (0이면 끔)
+    }
+
+    @Data
+    public static class Async {
+        private int threads = 0;                // AI 수 요청을 처리하는 스레드 수 (0이면 CPU 코어 수)
+        private int queueCapacity = 16;         // 실행을 기다릴 수 있는 요청 수 (넘으면 바로 503)
+        private long timeoutMs = 5000;          // 요청 하나의 최대 처리 시간 (넘으면 탐색 취소 후 503)
+    }
+
+    @Data
+    public static class Comment {
+        private int threads = 4;                // 멘트 생성 스레드 수 (외부 API 대기용)
+        private int queueCapacity = 64;         // 생성을 기다릴 수 있는 멘트 수 (넘으면 기본 멘트)
+        private long timeoutMs = 3000;          // 멘트 생성 최대 시간 (넘으면 기본 멘트 전송)
+        private String model = "gpt-4o-mini";
+        private int connectTimeoutMs = 1000;    // 멘트 API 연결 타임아웃
+        private int readTimeoutMs = 2500;       // 멘트 API 응답 타임아웃
+        private int maxConcurrentCalls = 8;     // 멘트 API 동시 호출 상한 (넘으면 호출하지 않고 기본 멘트)
+        private Breaker breaker = new Breaker();
+        private Pool pool = new Pool();
+    }
+
+    @Data
+    public static class Breaker {
+        private int windowSize = 20;            // 실패율을 계산할 최근 호출 수
+        private int failureRatePercent = 50;    // 이 비율 이상 실패(느린 호출 포함)하면 회로 열기
+        private long slowCallMs = 2000;         // 이보다 오래 걸린 호출은 실패로 셈
+        private long openMs = 30000;            // 회로를 열어 두는 시간 (그 뒤 시험 호출 한 번)
+    }
+
+    @Data
+    public static class Pool {
+        private int size = 40;                  // 상황별로 미리 만들어 둘 멘트 수 (0이면 풀 끔)
+        private int batchSize = 10;             // API 한 번에 요청하는 멘트 수
+        private int lowWatermark = 10;          // 남은 멘트가 이보다 적으면 다시 채움
+    }
+}
@@ -3,20 +3,187 @@ package com.othello.ai.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.othello.ai.client.CircuitBreaker;
+import com.othello.ai.client.CommentClient;
+import com.othello.ai.engine.Evaluator;
+import com.othello.ai.engine.EvaluatorType;
+import com.othello.ai.engine.HeuristicEvaluator;
+import com.othello.ai.engine.MoveResultCache;
+import com.othello.ai.engine.OpeningBook;
+import com.othello.ai.engine.PatternEvaluator;
+import com.othello.ai.engine.PatternWeights;
+import com.othello.ai.engine.TranspositionTable;
+import com.othello.ai.service.AICommentPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
+@EnableConfigurationProperties({AIProperties.class, GameProperties.class})
 public class AppConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(AppConfig.class);
+
+    /**
+     * AI 격려 멘트 API 클라이언트 (JDK HttpClient 커넥션 풀 + 연결/읽기 타임아웃 + 벌크헤드 + 서킷 브레이커)
+     */
+    @Bean
+    public CommentClient commentClient(AIProperties properties, ObjectMapper objectMapper,
+                                       @Value("${openai.api.url}") String apiUrl,
+                                       @Value("${openai.api.key}") String apiKey) {
+        AIProperties.Comment comment = properties.getComment();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(comment.getConnectTimeoutMs()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(comment.getReadTimeoutMs()));
+
+        AIProperties.Breaker breaker = comment.getBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(breaker.getWindowSize(), breaker.getFailureRatePercent(),
+                breaker.getSlowCallMs(), breaker.getOpenMs());
+        return new CommentClient(new RestTemplate(requestFactory), objectMapper, apiUrl, apiKey,
+                comment.getModel(), comment.getMaxConcurrentCalls(), circuitBreaker);
+    }
+    
+    @Bean
+    public TranspositionTable transpositionTable(AIProperties properties) {
+        return new TranspositionTable(properties.getSearch().getTtSizeMb(), properties.getSearch().isTtStats());
+    }
+    
+    /**
+     * 요청 간 AI 수 결과 캐시 (LRU)
+     */
+    @Bean
+    public MoveResultCache moveResultCache(AIProperties properties) {
+        return new MoveResultCache(properties.getCache().getMaxEntries());
+    }
+    
+    /**
+     * AI 정적 평가 함수 (패턴 가중치 파일은 시작 시 한 번만 읽음)
+     */
+    @Bean
+    public Evaluator evaluator(AIProperties properties, ResourceLoader resourceLoader) {
+        AIProperties.Eval eval = properties.getEval();
+        if (eval.getType() == EvaluatorType.HEURISTIC) {
+            return new HeuristicEvaluator();
+        }
+        if (eval.getWeights() == null || eval.getWeights().isBlank()) {
+            log.info("No pattern weight file configured (ai.eval.weights), using generated default weights");
+            return new PatternEvaluator(PatternWeights.generateDefault());
+        }
+        Resource resource = resourceLoader.getResource(eval.getWeights());
+        if (!resource.exists()) {
+            log.warn("Pattern weight file {} not found, falling back to generated default weights", eval.getWeights());
+            return new PatternEvaluator(PatternWeights.generateDefault());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            PatternWeights weights = PatternWeights.read(in);
+            log.info("Loaded pattern weights from {} ({} phases)", eval.getWeights(), weights.getPhases());
+            return new PatternEvaluator(weights);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load pattern weights: " + eval.getWeights(), e);
+        }
+    }
+    
+    /**
+     * 메모리 매핑 오프닝 북 (OpeningBookBuilder로 만든 파일, 없으면 빈 북)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public OpeningBook openingBook(AIProperties properties) {
+        Path path = Paths.get(properties.getBook().getPath());
+        if (!Files.exists(path)) {
+            log.info("Opening book {} not found, searching every move", path);
+            return OpeningBook.empty();
+        }
+        try {
+            OpeningBook book = OpeningBook.open(path);
+            log.info("Opened opening book {} ({} positions, up to ply {})", path, book.size(), book.getMaxPlies());
+            return book;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open opening book: " + path, e);
+        }
+    }
+    
+    /**
+     * 병렬 탐색 보조 스레드 풀 (크기가 곧 AI 보조 탐색 스레드 총 상한, 0이면 CPU 코어 수)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool aiSearchPool(AIProperties properties) {
+        int poolSize = properties.getSearch().getParallel().getPoolSize();
+        int parallelism = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ai-search-" + thread.getPoolIndex());
+            return thread;
+        };
+        // maximumPoolSize = parallelism: 블로킹 보상용 추가 스레드도 만들지 않음
+        return new ForkJoinPool(parallelism, factory, null, false,
+                0, parallelism, 1, null, 60, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * AI 수 요청 실행 스레드 풀 (고정 크기 + 크기 제한 대기열, 대기열이 차면 RejectedExecutionException)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor aiMoveExecutor(AIProperties properties) {
+        AIProperties.Async async = properties.getAsync();
+        int threads = async.getThreads() > 0 ? async.getThreads() : Runtime.getRuntime().availableProcessors();
+        return boundedExecutor("ai-move-", threads, async.getQueueCapacity());
+    }
+    
+    /**
+     * AI 격려 멘트 생성 스레드 풀 (외부 API 응답을 기다리는 스레드라 탐색 풀과 분리)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor aiCommentExecutor(AIProperties properties) {
+        AIProperties.Comment comment = properties.getComment();
+        return boundedExecutor("ai-comment-", comment.getThreads(), comment.getQueueCapacity());
+    }
+    
+    /**
+     * 멘트 풀 채우기 전용 단일 스레드 (오래 걸리는 채우기가 수마다 만드는 멘트 스레드를 차지하지 않도록)
+     * 상황마다 채우기는 하나만 예약되므로 큐는 상황 수만큼이면 충분
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor aiCommentPoolExecutor() {
+        return boundedExecutor("ai-comment-pool-", 1, AICommentPool.Bucket.values().length);
+    }
+    
+    private static ThreadPoolExecutor boundedExecutor(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.AbortPolicy());
     }
     
     @Bean
@@ -0,0 +1,21 @@
+package com.othello.ai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 멀티플레이어 게임 설정 (application.yml의 game.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "game")
+public class GameProperties {
+
+    private State state = new State();
+    private int roomLockStripes = 1024;         // 방별 수 처리 직렬화 락 개수 (동시에 진행하는 방 수보다 넉넉하게)
+
+    @Data
+    public static class State {
+        private long flushIntervalMs = 500;     // 메모리의 진행 중 게임 상태를 DB에 모아 쓰는 주기
+        private int flushBatchSize = 100;       // 한 트랜잭션에 쓰는 최대 방 수
+    }
+}
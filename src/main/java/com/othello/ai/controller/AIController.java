@@ -2,33 +2,77 @@ package com.othello.ai.controller;
 
 import com.othello.ai.dto.AIRequest;
 import com.othello.ai.dto.AIResponse;
+import com.othello.ai.config.AIProperties;
+import com.othello.ai.engine.SearchCancellation;
 import com.othello.ai.service.AIService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/ai")
 @CrossOrigin(origins = "*")
 public class AIController {
 
+    private static final Logger log = LoggerFactory.getLogger(AIController.class);
+
     private final AIService aiService;
+    private final AIProperties properties;
 
-    public AIController(AIService aiService) {
+    public AIController(AIService aiService, AIProperties properties) {
         this.aiService = aiService;
+        this.properties = properties;
     }
 
+    /**
+     * AI 수 요청. 탐색은 AI 전용 스레드 풀에서 돌고 요청 스레드는 바로 반환된다.
+     * 대기열이 가득 차면 바로 503, 시간 초과나 클라이언트 연결 끊김이면 탐색을 취소한다.
+     */
     @PostMapping("/move")
-    public AIResponse getMove(@RequestBody Map<String, Object> request) {
+    public DeferredResult<AIResponse> getMove(@RequestBody Map<String, Object> request) {
         AIRequest aiRequest = new AIRequest();
         aiRequest.setBoardState((String) request.get("boardState"));
         aiRequest.setTurn((String) request.get("turn"));
         aiRequest.setUserName((String) request.get("userName"));
+        aiRequest.setRequestId((String) request.get("requestId"));
+        if (request.get("timeLimitMs") instanceof Number) {
+            aiRequest.setTimeLimitMs(((Number) request.get("timeLimitMs")).intValue());
+        }
         
         int difficulty = request.containsKey("difficulty") ? 
                         ((Number) request.get("difficulty")).intValue() : 4;
         
-        return aiService.getNextMove(aiRequest, difficulty);
+        DeferredResult<AIResponse> deferred = new DeferredResult<>(properties.getAsync().getTimeoutMs());
+        SearchCancellation cancellation = new SearchCancellation();
+        deferred.onTimeout(() -> deferred.setErrorResult(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "AI move timed out")));
+        // 정상 완료 뒤의 취소는 아무 일도 하지 않음 (탐색기를 이미 뗀 상태)
+        deferred.onCompletion(cancellation::cancel);
+
+        try {
+            aiService.getNextMoveAsync(aiRequest, difficulty, cancellation).whenComplete((response, error) -> {
+                if (error != null) {
+                    deferred.setErrorResult(error.getCause() != null ? error.getCause() : error);
+                } else {
+                    deferred.setResult(response);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("AI move rejected: executor queue is full");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "AI is busy");
+        }
+        return deferred;
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        return aiService.getSearchStats();
     }
 }
 
@@ -1,13 +1,16 @@
 package com.othello.ai.controller;
 
 import com.othello.ai.dto.GameStateDto;
+import com.othello.ai.dto.LobbyEventDto;
 import com.othello.ai.dto.MoveDto;
 import com.othello.ai.service.GameRoomService;
+import com.othello.ai.service.LobbyService;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,9 +23,20 @@ public class GameWebSocketController {
     private static final Logger log = LoggerFactory.getLogger(GameWebSocketController.class);
 
     private final GameRoomService gameRoomService;
+    private final LobbyService lobbyService;
 
-    public GameWebSocketController(GameRoomService gameRoomService) {
+    public GameWebSocketController(GameRoomService gameRoomService, LobbyService lobbyService) {
         this.gameRoomService = gameRoomService;
+        this.lobbyService = lobbyService;
+    }
+
+    /**
+     * 로비 첫 목록: /app/lobby를 구독하면 그 클라이언트에게만 현재 대기방 목록과 버전을 한 번 보냄.
+     * 이후 변경분은 /topic/lobby로 온다.
+     */
+    @SubscribeMapping("/lobby")
+    public LobbyEventDto lobbySnapshot() {
+        return lobbyService.getSnapshot();
     }
 
     @MessageMapping("/game/{roomId}/move")
@@ -50,6 +64,7 @@ public class GameWebSocketController {
                     moveDto.getCol(),
                     moveDto.getBoardState(),
                     moveDto.getTurn(),
+                    moveDto.getVersion(),
                     userId);
 
             return state;
@@ -0,0 +1,18 @@
+package com.othello.ai.dto;
+
+public class AICommentDto {
+    private String requestId; // AI 수 요청 ID (/topic/ai/comment/{requestId})
+    private String comment; // 친절한 코멘트
+
+    public AICommentDto() {}
+
+    public AICommentDto(String requestId, String comment) {
+        this.requestId = requestId;
+        this.comment = comment;
+    }
+
+    public String getRequestId() { return requestId; }
+    public void setRequestId(String requestId) { this.requestId = requestId; }
+    public String getComment() { return comment; }
+    public void setComment(String comment) { this.comment = comment; }
+}
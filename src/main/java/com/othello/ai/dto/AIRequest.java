@@ -4,6 +4,8 @@ public class AIRequest {
     private String boardState; // 오셀로 보드 상태 (64자 문자열)
     private String turn; // 'B' 또는 'W'
     private String userName;
+    private Integer timeLimitMs; // 탐색 시간 제한 (ms, 선택)
+    private String requestId; // 클라이언트가 만든 요청 ID (코멘트 구독용, 선택)
 
     public AIRequest() {}
 
@@ -13,5 +15,9 @@ public class AIRequest {
     public void setTurn(String turn) { this.turn = turn; }
     public String getUserName() { return userName; }
     public void setUserName(String userName) { this.userName = userName; }
+    public Integer getTimeLimitMs() { return timeLimitMs; }
+    public void setTimeLimitMs(Integer timeLimitMs) { this.timeLimitMs = timeLimitMs; }
+    public String getRequestId() { return requestId; }
+    public void setRequestId(String requestId) { this.requestId = requestId; }
 }
 
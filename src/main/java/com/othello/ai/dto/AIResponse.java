@@ -3,6 +3,8 @@ package com.othello.ai.dto;
 public class AIResponse {
     private String move; // "row,col" 형식 (예: "3,4")
     private String comment; // 친절한 코멘트
+    private String requestId; // 요청 ID (나중에 오는 코멘트를 구독할 때 사용)
+    private boolean commentPending; // 코멘트를 /topic/ai/comment/{requestId}로 나중에 보내는지
 
     public AIResponse() {}
 
@@ -15,5 +17,9 @@ public class AIResponse {
     public void setMove(String move) { this.move = move; }
     public String getComment() { return comment; }
     public void setComment(String comment) { this.comment = comment; }
+    public String getRequestId() { return requestId; }
+    public void setRequestId(String requestId) { this.requestId = requestId; }
+    public boolean isCommentPending() { return commentPending; }
+    public void setCommentPending(boolean commentPending) { this.commentPending = commentPending; }
 }
 
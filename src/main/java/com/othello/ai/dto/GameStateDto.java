@@ -11,6 +11,7 @@ public class GameStateDto {
     private String message; // 선택적 메시지 전달용
     private Integer blackCount; // 흑 돌 개수
     private Integer whiteCount; // 백 돌 개수
+    private Long version; // 게임 상태 버전 (수를 보낼 때 그대로 돌려보냄)
 
     public GameStateDto() {}
 
@@ -56,5 +57,7 @@ public class GameStateDto {
     public void setBlackCount(Integer blackCount) { this.blackCount = blackCount; }
     public Integer getWhiteCount() { return whiteCount; }
     public void setWhiteCount(Integer whiteCount) { this.whiteCount = whiteCount; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,58 @@
+package com.othello.ai.dto;
+
+import java.util.List;
+
+public class LobbyEventDto {
+    private String type; // SNAPSHOT, ROOM_ADDED, ROOM_REMOVED, ROOM_STATUS
+    private Long version; // 로비 버전 (변경마다 1씩 증가)
+    private List<RoomDto> rooms; // SNAPSHOT: 대기 중인 방 전체
+    private RoomDto room; // ROOM_ADDED: 추가된 방
+    private Long roomId; // ROOM_REMOVED, ROOM_STATUS: 대상 방
+    private String status; // ROOM_STATUS: 바뀐 상태 (PLAYING, FINISHED)
+
+    public LobbyEventDto() {}
+
+    public static LobbyEventDto snapshot(long version, List<RoomDto> rooms) {
+        LobbyEventDto event = new LobbyEventDto("SNAPSHOT", version);
+        event.rooms = rooms;
+        return event;
+    }
+
+    public static LobbyEventDto roomAdded(long version, RoomDto room) {
+        LobbyEventDto event = new LobbyEventDto("ROOM_ADDED", version);
+        event.room = room;
+        event.roomId = room.getId();
+        return event;
+    }
+
+    public static LobbyEventDto roomRemoved(long version, Long roomId) {
+        LobbyEventDto event = new LobbyEventDto("ROOM_REMOVED", version);
+        event.roomId = roomId;
+        return event;
+    }
+
+    public static LobbyEventDto roomStatus(long version, Long roomId, String status) {
+        LobbyEventDto event = new LobbyEventDto("ROOM_STATUS", version);
+        event.roomId = roomId;
+        event.status = status;
+        return event;
+    }
+
+    private LobbyEventDto(String type, long version) {
+        this.type = type;
+        this.version = version;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public List<RoomDto> getRooms() { return rooms; }
+    public void setRooms(List<RoomDto> rooms) { this.rooms = rooms; }
+    public RoomDto getRoom() { return room; }
+    public void setRoom(RoomDto room) { this.room = room; }
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
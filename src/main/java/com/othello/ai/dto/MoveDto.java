@@ -6,6 +6,7 @@ public class MoveDto {
     private Integer col; // 0-7
     private String boardState; // 이동 후의 보드 상태
     private String turn; // 다음 차례 ('B' 또는 'W')
+    private Long version; // 수를 두기 전 게임 상태 버전 (없으면 확인하지 않음)
 
     public MoveDto() {}
 
@@ -19,5 +20,7 @@ public class MoveDto {
     public void setBoardState(String boardState) { this.boardState = boardState; }
     public String getTurn() { return turn; }
     public void setTurn(String turn) { this.turn = turn; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,171 @@
+package com.othello.ai.engine;
+
+/**
+ * 비트보드 기반 오셀로 수 생성 유틸리티
+ * 칸 번호는 보드 문자열 인덱스와 동일하게 row * 8 + col 이며, 흑/백 돌을 각각 long 하나로 표현한다.
+ */
+public final class Bitboard {
+
+    public static final int BOARD_SIZE = 8;
+    public static final int SQUARES = 64;
+
+    public static final char EMPTY = ' ';
+    public static final char BLACK = 'B';
+    public static final char WHITE = 'W';
+
+    public static final long NOT_A_FILE = 0xFEFEFEFEFEFEFEFEL; // col 0 제외
+    public static final long NOT_H_FILE = 0x7F7F7F7F7F7F7F7FL; // col 7 제외
+    public static final long CORNERS = 0x8100000000000081L;
+    public static final long EDGES = 0xFF818181818181FFL;
+
+    // 초기 배치: (3,3)=W, (3,4)=B, (4,3)=B, (4,4)=W
+    public static final long INITIAL_BLACK = (1L << 28) | (1L << 35);
+    public static final long INITIAL_WHITE = (1L << 27) | (1L << 36);
+
+    // 8방향 시프트 양 (양수: 왼쪽 시프트, 음수: 오른쪽 시프트)와 랩어라운드 방지 마스크
+    // 순서: 우, 좌, 하, 상, 우하, 좌하, 우상, 좌상
+    private static final int[] SHIFTS = {1, -1, 8, -8, 9, 7, -7, -9};
+    private static final long[] MASKS = {
+            NOT_A_FILE, NOT_H_FILE, -1L, -1L,
+            NOT_A_FILE, NOT_H_FILE, NOT_A_FILE, NOT_H_FILE
+    };
+
+    private Bitboard() {
+    }
+
+    /**
+     * 지정 방향으로 한 칸 이동
+     */
+    public static long shift(long bits, int direction) {
+        int s = SHIFTS[direction];
+        return s > 0 ? (bits << s) & MASKS[direction] : (bits >>> -s) & MASKS[direction];
+    }
+
+    /**
+     * 둘 수 있는 모든 칸의 마스크 (시프트-마스크 전파)
+     */
+    public static long legalMoves(long player, long opponent) {
+        long empty = ~(player | opponent);
+        long moves = 0L;
+        for (int dir = 0; dir < 8; dir++) {
+            long x = shift(player, dir) & opponent;
+            x |= shift(x, dir) & opponent;
+            x |= shift(x, dir) & opponent;
+            x |= shift(x, dir) & opponent;
+            x |= shift(x, dir) & opponent;
+            x |= shift(x, dir) & opponent;
+            moves |= shift(x, dir) & empty;
+        }
+        return moves;
+    }
+
+    /**
+     * square에 두었을 때 뒤집히는 상대 돌 마스크 (빈 칸이 아니거나 뒤집을 돌이 없으면 0)
+     */
+    public static long flips(long player, long opponent, int square) {
+        long move = 1L << square;
+        if (((player | opponent) & move) != 0) {
+            return 0L;
+        }
+        long flipped = 0L;
+        for (int dir = 0; dir < 8; dir++) {
+            long line = 0L;
+            long x = shift(move, dir);
+            while ((x & opponent) != 0) {
+                line |= x;
+                x = shift(x, dir);
+            }
+            if ((x & player) != 0) {
+                flipped |= line;
+            }
+        }
+        return flipped;
+    }
+
+    /**
+     * 한 쪽이라도 둘 수 있는 수가 있는지 확인
+     */
+    public static boolean hasAnyMove(long black, long white) {
+        return legalMoves(black, white) != 0 || legalMoves(white, black) != 0;
+    }
+
+    public static boolean isGameOver(long black, long white) {
+        return !hasAnyMove(black, white);
+    }
+
+    public static int square(int row, int col) {
+        return row * BOARD_SIZE + col;
+    }
+
+    public static int row(int square) {
+        return square >>> 3;
+    }
+
+    public static int col(int square) {
+        return square & 7;
+    }
+
+    /**
+     * 상하 반전: (row, col) → (7 - row, col)
+     */
+    public static long flipVertical(long bits) {
+        return Long.reverseBytes(bits);
+    }
+
+    /**
+     * 좌우 반전: (row, col) → (row, 7 - col)
+     */
+    public static long mirrorHorizontal(long bits) {
+        bits = ((bits >>> 1) & 0x5555555555555555L) | ((bits & 0x5555555555555555L) << 1);
+        bits = ((bits >>> 2) & 0x3333333333333333L) | ((bits & 0x3333333333333333L) << 2);
+        return ((bits >>> 4) & 0x0F0F0F0F0F0F0F0FL) | ((bits & 0x0F0F0F0F0F0F0F0FL) << 4);
+    }
+
+    /**
+     * 주 대각선 기준 전치: (row, col) → (col, row)
+     */
+    public static long flipDiagonal(long bits) {
+        long t = 0x0F0F0F0F00000000L & (bits ^ (bits << 28));
+        bits ^= t ^ (t >>> 28);
+        t = 0x3333000033330000L & (bits ^ (bits << 14));
+        bits ^= t ^ (t >>> 14);
+        t = 0x5500550055005500L & (bits ^ (bits << 7));
+        return bits ^ t ^ (t >>> 7);
+    }
+
+    /**
+     * 90도 회전: (row, col) → (7 - col, row)
+     */
+    public static long rotate90(long bits) {
+        return flipVertical(flipDiagonal(bits));
+    }
+
+    public static char opponent(char player) {
+        return player == BLACK ? WHITE : BLACK;
+    }
+
+    /**
+     * 보드 문자열에서 지정한 색의 돌 마스크 추출
+     */
+    public static long fromString(String boardState, char color) {
+        long bits = 0L;
+        for (int i = 0; i < SQUARES; i++) {
+            if (boardState.charAt(i) == color) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 흑/백 마스크를 64자 보드 문자열로 변환
+     */
+    public static String toString(long black, long white) {
+        char[] board = new char[SQUARES];
+        for (int i = 0; i < SQUARES; i++) {
+            long bit = 1L << i;
+            board[i] = (black & bit) != 0 ? BLACK : (white & bit) != 0 ? WHITE : EMPTY;
+        }
+        return new String(board);
+    }
+}
@@ -0,0 +1,137 @@
+package com.othello.ai.engine;
+
+/**
+ * 평가용 보드 특징 (이동성, 잠재 이동성/프런티어, 안정 돌)
+ * 모두 시프트와 마스크만으로 계산하며 칸을 하나씩 훑거나 수 목록을 만들지 않는다.
+ */
+public final class BoardFeatures {
+
+    private static final long A_FILE = 0x0101010101010101L;
+    private static final long H_FILE = 0x8080808080808080L;
+    private static final long RANK_1 = 0x00000000000000FFL;
+    private static final long RANK_8 = 0xFF00000000000000L;
+    private static final long BORDER = A_FILE | H_FILE | RANK_1 | RANK_8;
+
+    // 길이 3 이상인 대각선 (↘: row - col 일정, ↙: row + col 일정). 더 짧은 대각선의 칸은 모두 가장자리
+    private static final long[] DIAGONALS;
+    private static final long[] ANTI_DIAGONALS;
+
+    static {
+        DIAGONALS = new long[11];
+        ANTI_DIAGONALS = new long[11];
+        for (int i = 0; i < 11; i++) {
+            for (int row = 0; row < Bitboard.BOARD_SIZE; row++) {
+                int col = row - (i - 5);
+                if (col >= 0 && col < Bitboard.BOARD_SIZE) {
+                    DIAGONALS[i] |= 1L << Bitboard.square(row, col);
+                }
+                col = (i + 2) - row;
+                if (col >= 0 && col < Bitboard.BOARD_SIZE) {
+                    ANTI_DIAGONALS[i] |= 1L << Bitboard.square(row, col);
+                }
+            }
+        }
+    }
+
+    private BoardFeatures() {
+    }
+
+    /**
+     * 현재 이동성 (둘 수 있는 칸 수)
+     */
+    public static int mobility(long player, long opponent) {
+        return Long.bitCount(Bitboard.legalMoves(player, opponent));
+    }
+
+    /**
+     * 8방향 이웃 칸 마스크
+     */
+    public static long neighbours(long bits) {
+        long horizontal = ((bits << 1) & Bitboard.NOT_A_FILE) | ((bits >>> 1) & Bitboard.NOT_H_FILE);
+        long spread = bits | horizontal;
+        return horizontal | (spread << 8) | (spread >>> 8);
+    }
+
+    /**
+     * 프런티어 돌: 빈 칸과 맞닿은 내 돌 (많을수록 상대에게 수를 내줌)
+     */
+    public static long frontier(long player, long opponent) {
+        return player & neighbours(~(player | opponent));
+    }
+
+    /**
+     * 잠재 이동성: 상대 돌과 맞닿은 빈 칸 수
+     */
+    public static int potentialMobility(long player, long opponent) {
+        return Long.bitCount(neighbours(opponent) & ~(player | opponent));
+    }
+
+    /**
+     * 안정 돌 (어떤 수로도 다시 뒤집히지 않는 내 돌)
+     * 네 축(가로, 세로, 두 대각선) 각각에서 줄이 가득 찼거나, 한쪽 이웃이 보드 밖이거나 안정된 내 돌이면 안정하다.
+     * 모서리와 가득 찬 줄에서 시작해 더 늘지 않을 때까지 반복한다 (변을 따라 이어진 돌과 채워진 줄의 돌).
+     */
+    public static long stableDiscs(long player, long opponent) {
+        long filled = player | opponent;
+        long fullHorizontal = fullHorizontal(filled);
+        long fullVertical = fullVertical(filled);
+        long fullDiagonal = fullLines(filled, DIAGONALS);
+        long fullAntiDiagonal = fullLines(filled, ANTI_DIAGONALS);
+        // 모서리도 가득 찬 줄도 없으면 안정 돌이 생길 수 없음 (대부분의 초중반 포지션)
+        if ((player & Bitboard.CORNERS) == 0 && (fullHorizontal | fullVertical | fullDiagonal | fullAntiDiagonal) == 0) {
+            return 0L;
+        }
+
+        // 보드 가장자리 칸은 바깥쪽 이웃이 없으므로 해당 축에서 이미 고정
+        fullHorizontal |= A_FILE | H_FILE;
+        fullVertical |= RANK_1 | RANK_8;
+        fullDiagonal |= BORDER;
+        fullAntiDiagonal |= BORDER;
+
+        long stable = 0L;
+        long candidates = player;
+        while (true) {
+            long horizontal = fullHorizontal
+                    | ((stable << 1) & Bitboard.NOT_A_FILE) | ((stable >>> 1) & Bitboard.NOT_H_FILE);
+            long vertical = fullVertical | (stable << 8) | (stable >>> 8);
+            long diagonal = fullDiagonal
+                    | ((stable << 9) & Bitboard.NOT_A_FILE) | ((stable >>> 9) & Bitboard.NOT_H_FILE);
+            long antiDiagonal = fullAntiDiagonal
+                    | ((stable << 7) & Bitboard.NOT_H_FILE) | ((stable >>> 7) & Bitboard.NOT_A_FILE);
+            long added = candidates & horizontal & vertical & diagonal & antiDiagonal;
+            if (added == 0) {
+                return stable;
+            }
+            stable |= added;
+            candidates &= ~added;
+        }
+    }
+
+    private static long fullHorizontal(long filled) {
+        long full = 0L;
+        for (int row = 0; row < Bitboard.BOARD_SIZE; row++) {
+            long line = RANK_1 << (row << 3);
+            if ((filled & line) == line) {
+                full |= line;
+            }
+        }
+        return full;
+    }
+
+    private static long fullVertical(long filled) {
+        long columns = filled & (filled >>> 32);
+        columns &= columns >>> 16;
+        columns &= columns >>> 8;
+        return (columns & RANK_1) * A_FILE;
+    }
+
+    private static long fullLines(long filled, long[] lines) {
+        long full = 0L;
+        for (long line : lines) {
+            if ((filled & line) == line) {
+                full |= line;
+            }
+        }
+        return full;
+    }
+}
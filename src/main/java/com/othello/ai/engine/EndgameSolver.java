@@ -0,0 +1,354 @@
+package com.othello.ai.engine;
+
+/**
+ * 종반 완전 탐색기
+ * 남은 빈 칸이 적을 때 끝까지 읽어 최종 돌 개수 차이(둘 차례인 쪽 - 상대)를 정확히 계산한다.
+ * 빈 칸이 많을 때는 상대 이동성이 가장 작은 수부터(fastest-first), 적을 때는 홀수 빈 칸 구역의 수부터(parity) 탐색하고,
+ * 마지막 1~4칸은 수 생성 없이 뒤집기 마스크만으로 푸는 전용 코드를 쓴다.
+ * 스레드마다 하나씩 두고 재사용한다.
+ */
+public final class EndgameSolver {
+
+    private static final int MAX_PLY = 64;
+    private static final int MAX_MOVES = 32;
+    private static final int TIME_CHECK_INTERVAL = 1023;
+
+    // 이 개수보다 빈 칸이 많으면 fastest-first, 이하이면 parity 정렬만 사용
+    private static final int FASTEST_FIRST_EMPTIES = 6;
+
+    // 사분면 마스크 (좌상, 우상, 좌하, 우하)
+    private static final long[] QUADRANTS = {
+            0x000000000F0F0F0FL, 0x00000000F0F0F0F0L, 0x0F0F0F0F00000000L, 0xF0F0F0F000000000L
+    };
+    private static final long[] QUADRANT_OF = new long[Bitboard.SQUARES];
+
+    static {
+        for (int square = 0; square < Bitboard.SQUARES; square++) {
+            for (long quadrant : QUADRANTS) {
+                if ((quadrant & (1L << square)) != 0) {
+                    QUADRANT_OF[square] = quadrant;
+                }
+            }
+        }
+    }
+
+    private final int[][] moves = new int[MAX_PLY][MAX_MOVES];
+    private final int[][] orderScores = new int[MAX_PLY][MAX_MOVES];
+
+    private int bestMove = Searcher.NO_MOVE;
+    private long nodes;
+    private long deadline = Searcher.NO_DEADLINE;
+    private boolean aborted;
+    private volatile boolean stopRequested;
+
+    /**
+     * 완전 탐색. 시간 안에 끝나면 최선의 수와 최종 돌 차이를, 시간을 넘기거나 둘 수가 없으면 수 없는 결과를 반환한다.
+     */
+    public SearchResult solve(long player, long opponent, long deadline) {
+        this.deadline = deadline;
+        bestMove = Searcher.NO_MOVE;
+        nodes = 0;
+        aborted = false;
+
+        int empties = Bitboard.SQUARES - Long.bitCount(player | opponent);
+        int score = search(0, player, opponent, -Bitboard.SQUARES, Bitboard.SQUARES, empties, false);
+        if (aborted) {
+            return new SearchResult(Searcher.NO_MOVE, 0, 0, nodes);
+        }
+        return new SearchResult(bestMove, score, empties, nodes);
+    }
+
+    /**
+     * 진행 중인 완전 탐색 중단 요청 (다른 스레드에서 호출 가능)
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * 중단 요청 해제. 새 탐색을 맡기기 전에 호출한다.
+     */
+    public void clearStop() {
+        stopRequested = false;
+    }
+
+    private int search(int ply, long player, long opponent, int alpha, int beta, int empties, boolean passed) {
+        if ((++nodes & TIME_CHECK_INTERVAL) == 0
+                && (stopRequested || (deadline != Searcher.NO_DEADLINE && System.nanoTime() - deadline > 0))) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        if (ply > 0 && empties <= 4) {
+            return solveSmall(player, opponent, alpha, beta, empties);
+        }
+
+        long legal = Bitboard.legalMoves(player, opponent);
+        if (legal == 0) {
+            if (passed || Bitboard.legalMoves(opponent, player) == 0) {
+                return finalScore(player, opponent);
+            }
+            return -search(ply + 1, opponent, player, -beta, -alpha, empties, true);
+        }
+
+        int[] buffer = moves[ply];
+        int[] scores = orderScores[ply];
+        int count = order(player, opponent, legal, empties, buffer, scores);
+
+        int bestValue = -Bitboard.SQUARES - 1;
+        for (int i = 0; i < count; i++) {
+            selectNext(buffer, scores, i, count);
+            int square = buffer[i];
+            long flipped = Bitboard.flips(player, opponent, square);
+            int value = -search(ply + 1, opponent & ~flipped, player | flipped | (1L << square),
+                    -beta, -alpha, empties - 1, false);
+            if (aborted) {
+                return 0;
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                if (ply == 0) {
+                    bestMove = square;
+                }
+                if (value > alpha) {
+                    alpha = value;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return bestValue;
+    }
+
+    /**
+     * 수 정렬 점수: 홀수 빈 칸 사분면 보너스 + (빈 칸이 많을 때) 상대 이동성이 작을수록 높은 점수
+     */
+    private static int order(long player, long opponent, long legal, int empties, int[] buffer, int[] scores) {
+        long empty = ~(player | opponent);
+        int count = 0;
+        while (legal != 0) {
+            int square = Long.numberOfTrailingZeros(legal);
+            legal &= legal - 1;
+            int score = (Long.bitCount(empty & QUADRANT_OF[square]) & 1) != 0 ? 1 : 0;
+            if (empties > FASTEST_FIRST_EMPTIES) {
+                long flipped = Bitboard.flips(player, opponent, square);
+                long opponentMoves = Bitboard.legalMoves(opponent & ~flipped, player | flipped | (1L << square));
+                score += (Bitboard.SQUARES - Long.bitCount(opponentMoves)) << 1;
+            }
+            buffer[count] = square;
+            scores[count++] = score;
+        }
+        return count;
+    }
+
+    private static void selectNext(int[] buffer, int[] scores, int i, int count) {
+        int best = i;
+        for (int j = i + 1; j < count; j++) {
+            if (scores[j] > scores[best]) {
+                best = j;
+            }
+        }
+        if (best != i) {
+            int square = buffer[i];
+            buffer[i] = buffer[best];
+            buffer[best] = square;
+            int score = scores[i];
+            scores[i] = scores[best];
+            scores[best] = score;
+        }
+    }
+
+    /**
+     * 빈 칸 4개 이하: 빈 칸을 꺼내 전용 함수로 (홀수 사분면의 칸을 앞쪽에 배치)
+     */
+    private int solveSmall(long player, long opponent, int alpha, int beta, int empties) {
+        long empty = ~(player | opponent);
+        if (empties == 0) {
+            return finalScore(player, opponent);
+        }
+        long odd = 0L;
+        for (long quadrant : QUADRANTS) {
+            if ((Long.bitCount(empty & quadrant) & 1) != 0) {
+                odd |= empty & quadrant;
+            }
+        }
+        long first = odd;
+        long second = empty & ~odd;
+
+        int s1 = nextSquare(first, second);
+        if (empties == 1) {
+            return solve1(player, opponent, s1);
+        }
+        first = clear(first, s1);
+        second = clear(second, s1);
+        int s2 = nextSquare(first, second);
+        if (empties == 2) {
+            return solve2(player, opponent, alpha, beta, s1, s2, false);
+        }
+        first = clear(first, s2);
+        second = clear(second, s2);
+        int s3 = nextSquare(first, second);
+        if (empties == 3) {
+            return solve3(player, opponent, alpha, beta, s1, s2, s3, false);
+        }
+        first = clear(first, s3);
+        second = clear(second, s3);
+        int s4 = nextSquare(first, second);
+        return solve4(player, opponent, alpha, beta, s1, s2, s3, s4, false);
+    }
+
+    private static int nextSquare(long first, long second) {
+        return Long.numberOfTrailingZeros(first != 0 ? first : second);
+    }
+
+    private static long clear(long bits, int square) {
+        return bits & ~(1L << square);
+    }
+
+    private int solve4(long player, long opponent, int alpha, int beta, int s1, int s2, int s3, int s4, boolean passed) {
+        nodes++;
+        int bestValue = -Bitboard.SQUARES - 1;
+        long flipped;
+
+        if ((flipped = Bitboard.flips(player, opponent, s1)) != 0) {
+            int value = -solve3(opponent & ~flipped, player | flipped | (1L << s1), -beta, -alpha, s2, s3, s4, false);
+            if (value > bestValue) {
+                bestValue = value;
+                if (value >= beta) {
+                    return value;
+                }
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s2)) != 0) {
+            int value = -solve3(opponent & ~flipped, player | flipped | (1L << s2), -beta, -alpha, s1, s3, s4, false);
+            if (value > bestValue) {
+                bestValue = value;
+                if (value >= beta) {
+                    return value;
+                }
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s3)) != 0) {
+            int value = -solve3(opponent & ~flipped, player | flipped | (1L << s3), -beta, -alpha, s1, s2, s4, false);
+            if (value > bestValue) {
+                bestValue = value;
+                if (value >= beta) {
+                    return value;
+                }
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s4)) != 0) {
+            int value = -solve3(opponent & ~flipped, player | flipped | (1L << s4), -beta, -alpha, s1, s2, s3, false);
+            if (value > bestValue) {
+                bestValue = value;
+            }
+        }
+
+        if (bestValue == -Bitboard.SQUARES - 1) {
+            if (passed) {
+                return finalScore(player, opponent);
+            }
+            return -solve4(opponent, player, -beta, -alpha, s1, s2, s3, s4, true);
+        }
+        return bestValue;
+    }
+
+    private int solve3(long player, long opponent, int alpha, int beta, int s1, int s2, int s3, boolean passed) {
+        nodes++;
+        int bestValue = -Bitboard.SQUARES - 1;
+        long flipped;
+
+        if ((flipped = Bitboard.flips(player, opponent, s1)) != 0) {
+            int value = -solve2(opponent & ~flipped, player | flipped | (1L << s1), -beta, -alpha, s2, s3, false);
+            if (value > bestValue) {
+                bestValue = value;
+                if (value >= beta) {
+                    return value;
+                }
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s2)) != 0) {
+            int value = -solve2(opponent & ~flipped, player | flipped | (1L << s2), -beta, -alpha, s1, s3, false);
+            if (value > bestValue) {
+                bestValue = value;
+                if (value >= beta) {
+                    return value;
+                }
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s3)) != 0) {
+            int value = -solve2(opponent & ~flipped, player | flipped | (1L << s3), -beta, -alpha, s1, s2, false);
+            if (value > bestValue) {
+                bestValue = value;
+            }
+        }
+
+        if (bestValue == -Bitboard.SQUARES - 1) {
+            if (passed) {
+                return finalScore(player, opponent);
+            }
+            return -solve3(opponent, player, -beta, -alpha, s1, s2, s3, true);
+        }
+        return bestValue;
+    }
+
+    private int solve2(long player, long opponent, int alpha, int beta, int s1, int s2, boolean passed) {
+        nodes++;
+        int bestValue = -Bitboard.SQUARES - 1;
+        long flipped;
+
+        if ((flipped = Bitboard.flips(player, opponent, s1)) != 0) {
+            bestValue = -solve1(opponent & ~flipped, player | flipped | (1L << s1), s2);
+            if (bestValue >= beta) {
+                return bestValue;
+            }
+        }
+        if ((flipped = Bitboard.flips(player, opponent, s2)) != 0) {
+            int value = -solve1(opponent & ~flipped, player | flipped | (1L << s2), s1);
+            if (value > bestValue) {
+                bestValue = value;
+            }
+        }
+
+        if (bestValue == -Bitboard.SQUARES - 1) {
+            if (passed) {
+                return finalScore(player, opponent);
+            }
+            return -solve2(opponent, player, -beta, -alpha, s1, s2, true);
+        }
+        return bestValue;
+    }
+
+    /**
+     * 마지막 한 칸: 뒤집히는 돌 개수만으로 최종 점수 계산
+     */
+    private int solve1(long player, long opponent, int square) {
+        nodes++;
+        int diff = Long.bitCount(player) - Long.bitCount(opponent);
+        int flipped = Long.bitCount(Bitboard.flips(player, opponent, square));
+        if (flipped > 0) {
+            return diff + 2 * flipped + 1;
+        }
+        flipped = Long.bitCount(Bitboard.flips(opponent, player, square));
+        if (flipped > 0) {
+            return diff - 2 * flipped - 1;
+        }
+        return diff;
+    }
+
+    private static int finalScore(long player, long opponent) {
+        return Long.bitCount(player) - Long.bitCount(opponent);
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
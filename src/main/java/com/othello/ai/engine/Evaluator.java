@@ -0,0 +1,9 @@
+package com.othello.ai.engine;
+
+/**
+ * 정적 평가 함수 (둘 차례인 쪽 관점의 점수를 반환)
+ */
+public interface Evaluator {
+
+    int evaluate(long player, long opponent);
+}
@@ -0,0 +1,9 @@
+package com.othello.ai.engine;
+
+/**
+ * 정적 평가 함수 종류
+ */
+public enum EvaluatorType {
+    HEURISTIC,  // 돌 개수 + 모서리/가장자리 보너스
+    PATTERN     // 패턴 테이블
+}
@@ -0,0 +1,23 @@
+package com.othello.ai.engine;
+
+/**
+ * 돌 개수 차이 + 모서리/가장자리 보너스로 이루어진 간단한 휴리스틱 평가
+ */
+public class HeuristicEvaluator implements Evaluator {
+
+    private static final long EDGES_WITHOUT_CORNERS = Bitboard.EDGES & ~Bitboard.CORNERS;
+
+    @Override
+    public int evaluate(long player, long opponent) {
+        // 돌 개수 차이
+        int score = Long.bitCount(player) - Long.bitCount(opponent);
+
+        // 모서리: 내 돌 +10, 상대 돌 -10
+        int cornerBonus = 10 * (Long.bitCount(player & Bitboard.CORNERS) - Long.bitCount(opponent & Bitboard.CORNERS));
+
+        // 가장자리 (모서리 제외): 내 돌 +2
+        int edgeBonus = 2 * Long.bitCount(player & EDGES_WITHOUT_CORNERS);
+
+        return score + cornerBonus + edgeBonus;
+    }
+}
@@ -0,0 +1,183 @@
+package com.othello.ai.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * 요청 간 AI 수 결과 캐시 (정규화 포지션 키 + 난이도 → 탐색 결과)
+ * 최근 사용 순 LRU로 최대 개수를 넘으면 가장 오래 안 쓴 결과를 버린다.
+ * 같은 키의 탐색이 이미 진행 중이면 새로 탐색하지 않고 그 결과를 기다린다 (single-flight).
+ * 기다리는 요청은 짧게 나눠 기다리면서 자기 취소와 마감 시각을 확인하고, 취소되면 수 없이, 마감을 넘기면 직접 탐색한다.
+ * 직접 탐색도 처음 받은 마감 시각을 그대로 넘기므로 기다린 시간만큼 탐색 시간이 줄어든다 (시간 제한을 두 번 쓰지 않음).
+ * 저장하는 수는 정규화 보드 기준이므로 호출한 쪽에서 원래 보드의 칸으로 되돌려야 한다.
+ */
+public final class MoveResultCache {
+
+    // 진행 중인 탐색을 기다리는 동안 취소 여부를 확인하는 간격
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int maxEntries;
+    private final Map<Key, SearchResult> entries;
+    private final ConcurrentHashMap<Key, CompletableFuture<SearchResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder sharedSearches = new LongAdder();
+
+    public MoveResultCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SearchResult> eldest) {
+                if (size() > MoveResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 search로 구해 cacheable을 만족할 때만 저장한다 (수가 없는 결과는 저장하지 않음)
+     * search는 마감 시각(System.nanoTime 기준)을 받아 그 안에 끝나는 탐색이다.
+     * 같은 탐색을 기다리는 동안 cancellation이 취소되면 수 없는 결과를, deadline을 넘기면 같은 deadline으로 직접 탐색한 결과를 반환한다.
+     */
+    public SearchResult get(long positionKey, int difficulty, LongFunction<SearchResult> search,
+                            Predicate<SearchResult> cacheable, SearchCancellation cancellation, long deadline) {
+        if (maxEntries <= 0) {
+            return search.apply(deadline);
+        }
+        Key key = new Key(positionKey, difficulty);
+        SearchResult cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<SearchResult> pending = new CompletableFuture<>();
+        CompletableFuture<SearchResult> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            sharedSearches.increment();
+            SearchResult shared = await(running, cancellation, deadline);
+            if (cancellation.isCancelled()) {
+                return SearchResult.NONE;
+            }
+            // 먼저 시작한 요청이 취소돼 수 없이 끝났거나 마감까지 끝나지 않았으면 직접 탐색
+            return shared != null && shared.hasMove() ? shared : search.apply(deadline);
+        }
+
+        try {
+            // 확인과 등록 사이에 다른 탐색이 끝났을 수 있으므로 한 번 더 확인
+            SearchResult result = lookup(key);
+            if (result != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                result = search.apply(deadline);
+                if (result.hasMove() && cacheable.test(result)) {
+                    synchronized (entries) {
+                        entries.put(key, result);
+                    }
+                }
+            }
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * 진행 중인 탐색의 결과를 기다림 (취소되거나 마감을 넘기면 null)
+     */
+    private static SearchResult await(CompletableFuture<SearchResult> running, SearchCancellation cancellation,
+                                      long deadline) {
+        while (!cancellation.isCancelled()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            try {
+                return running.get(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 취소 여부를 다시 확인하고 계속 기다림
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancellation.cancel();
+                return null;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return null;
+    }
+
+    private SearchResult lookup(Key key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxEntries() { return maxEntries; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getSharedSearches() { return sharedSearches.sum(); }
+
+    private static final class Key {
+
+        private final long positionKey;
+        private final int difficulty;
+
+        private Key(long positionKey, int difficulty) {
+            this.positionKey = positionKey;
+            this.difficulty = difficulty;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return positionKey == other.positionKey && difficulty == other.difficulty;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(positionKey) * 31 + difficulty;
+        }
+    }
+}
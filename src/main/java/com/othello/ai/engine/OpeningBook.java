@@ -0,0 +1,136 @@
+package com.othello.ai.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메모리 매핑 오프닝 북
+ * 대칭 정규화한 포지션 키 순으로 정렬된 고정 길이 엔트리(키 → 수, 점수, 등장 횟수) 파일을 MappedByteBuffer로 열고
+ * 이진 탐색으로 찾는다. 절대 위치 읽기만 하므로 여러 스레드가 동시에 조회해도 된다.
+ *
+ * 파일 형식 (리틀 엔디안): 헤더 32바이트 (MAGIC, VERSION, 최대 수순, 탐색 깊이, 엔트리 수, 예약),
+ * 엔트리 16바이트 (키 long, 정규화 방향 기준 수 byte, 예약 byte, 점수 short, 등장 횟수 int)
+ * 파일은 OpeningBookBuilder로 만든다.
+ */
+public final class OpeningBook {
+
+    static final int MAGIC = 0x4B42544F; // "OTBK"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int ENTRY_SIZE = 16;
+
+    private static final OpeningBook EMPTY = new OpeningBook(null, 0, 0, 0);
+
+    private final ByteBuffer entries;
+    private final int maxPlies;
+    private final int depth;
+    private final int size;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    private OpeningBook(ByteBuffer entries, int maxPlies, int depth, int size) {
+        this.entries = entries;
+        this.maxPlies = maxPlies;
+        this.depth = depth;
+        this.size = size;
+    }
+
+    public static OpeningBook empty() {
+        return EMPTY;
+    }
+
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not an opening book file: " + path);
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported opening book version: " + version);
+            }
+            int maxPlies = buffer.getInt(8);
+            int depth = buffer.getInt(12);
+            long size = buffer.getLong(16);
+            if (size < 0 || HEADER_SIZE + size * ENTRY_SIZE != buffer.capacity()) {
+                throw new IOException("Corrupt opening book file: " + path);
+            }
+            ByteBuffer entries = buffer.position(HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN);
+            return new OpeningBook(entries, maxPlies, depth, (int) size);
+        }
+    }
+
+    /**
+     * 북에서 수 찾기. 없거나 북 범위(최대 수순)를 벗어나면 수 없는 결과를 반환한다.
+     */
+    public SearchResult probe(long player, long opponent, boolean blackToMove) {
+        int plies = Long.bitCount(player | opponent) - 4;
+        if (size == 0 || plies > maxPlies) {
+            return SearchResult.NONE;
+        }
+        probes.increment();
+
+        long black = blackToMove ? player : opponent;
+        long white = blackToMove ? opponent : player;
+        Symmetry.Canonical canonical = Symmetry.canonicalize(black, white);
+
+        int index = find(canonical.key(blackToMove));
+        if (index < 0) {
+            return SearchResult.NONE;
+        }
+        int offset = index * ENTRY_SIZE;
+        int move = canonical.fromCanonical(entries.get(offset + 8));
+        // 키 충돌 방지: 실제로 둘 수 있는 수인지 확인
+        if ((Bitboard.legalMoves(player, opponent) & (1L << move)) == 0) {
+            return SearchResult.NONE;
+        }
+        hits.increment();
+        return new SearchResult(move, entries.getShort(offset + 10), depth, 0);
+    }
+
+    private int find(long key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = entries.getLong(mid * ENTRY_SIZE);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMaxPlies() {
+        return maxPlies;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+}
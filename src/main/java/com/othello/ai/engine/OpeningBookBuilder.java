@@ -0,0 +1,163 @@
+package com.othello.ai.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프닝 북 생성 (오프라인)
+ * 초기 포지션에서 treePlies 수까지의 모든 포지션과, 기보 파일이 있으면 기보에서 maxPlies 수까지 나온 포지션을
+ * 대칭 정규화해 모으고, 포지션마다 고정 깊이 탐색으로 최선의 수와 점수를 구해 OpeningBook 파일로 저장한다.
+ * 기보 파일: 한 줄에 한 게임, 좌표 표기 수순 (예: f5d6c3d3c4, 열 a~h, 행 1~8). 패스는 생략한다.
+ * 명령줄 실행은 테스트 소스의 OpeningBookTool.
+ */
+public final class OpeningBookBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(OpeningBookBuilder.class);
+
+    private final int maxPlies;
+    private final int depth;
+    // 정규화 키 → {흑, 백, 흑 차례(1/0), 기보 등장 횟수}
+    private final Map<Long, long[]> positions = new LinkedHashMap<>();
+
+    public OpeningBookBuilder(int maxPlies, int depth) {
+        this.maxPlies = maxPlies;
+        this.depth = depth;
+    }
+
+    /**
+     * treePlies 수까지 모든 수순을 펼쳐 포지션 추가
+     */
+    public void addAllOpenings(int treePlies) {
+        expand(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE, true, false, Math.min(treePlies, maxPlies));
+    }
+
+    private void expand(long black, long white, boolean blackToMove, boolean passed, int treePlies) {
+        if (Long.bitCount(black | white) - 4 > treePlies || !add(black, white, blackToMove, 0)) {
+            return;
+        }
+        long player = blackToMove ? black : white;
+        long opponent = blackToMove ? white : black;
+        long legal = Bitboard.legalMoves(player, opponent);
+        if (legal == 0) {
+            if (!passed) {
+                expand(black, white, !blackToMove, true, treePlies);
+            }
+            return;
+        }
+        while (legal != 0) {
+            int square = Long.numberOfTrailingZeros(legal);
+            legal &= legal - 1;
+            long flipped = Bitboard.flips(player, opponent, square);
+            long nextPlayer = player | flipped | (1L << square);
+            long nextOpponent = opponent & ~flipped;
+            expand(blackToMove ? nextPlayer : nextOpponent, blackToMove ? nextOpponent : nextPlayer, !blackToMove, false,
+                    treePlies);
+        }
+    }
+
+    /**
+     * 기보 한 줄의 수순을 따라가며 maxPlies 이내 포지션의 등장 횟수를 더한다. 잘못된 수가 나오면 거기서 멈춘다.
+     */
+    public void addGame(String moves) {
+        long black = Bitboard.INITIAL_BLACK;
+        long white = Bitboard.INITIAL_WHITE;
+        boolean blackToMove = true;
+        String line = moves.trim().toLowerCase();
+        for (int i = 0; i + 1 < line.length() && Long.bitCount(black | white) - 4 <= maxPlies; i += 2) {
+            int col = line.charAt(i) - 'a';
+            int row = line.charAt(i + 1) - '1';
+            if (col < 0 || col >= Bitboard.BOARD_SIZE || row < 0 || row >= Bitboard.BOARD_SIZE) {
+                return;
+            }
+            if (Bitboard.legalMoves(blackToMove ? black : white, blackToMove ? white : black) == 0) {
+                blackToMove = !blackToMove;
+            }
+            long player = blackToMove ? black : white;
+            long opponent = blackToMove ? white : black;
+            int square = Bitboard.square(row, col);
+            long flipped = Bitboard.flips(player, opponent, square);
+            if (flipped == 0) {
+                return;
+            }
+            add(black, white, blackToMove, 1);
+            player |= flipped | (1L << square);
+            opponent &= ~flipped;
+            black = blackToMove ? player : opponent;
+            white = blackToMove ? opponent : player;
+            blackToMove = !blackToMove;
+        }
+    }
+
+    /**
+     * 정규화해 추가. 처음 보는 포지션이면 true
+     */
+    private boolean add(long black, long white, boolean blackToMove, int count) {
+        Symmetry.Canonical canonical = Symmetry.canonicalize(black, white);
+        long key = canonical.key(blackToMove);
+        long[] position = positions.get(key);
+        if (position != null) {
+            position[3] += count;
+            return false;
+        }
+        positions.put(key, new long[]{canonical.getBlack(), canonical.getWhite(), blackToMove ? 1 : 0, count});
+        return true;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * 포지션마다 탐색해 키 순으로 정렬된 북 파일 작성 (둘 곳이 없는 포지션은 제외)
+     */
+    public void write(Path output, Evaluator evaluator) throws IOException {
+        TranspositionTable table = new TranspositionTable(64);
+        Searcher searcher = new Searcher(evaluator, table);
+        List<long[]> entries = new ArrayList<>(positions.size());
+        long start = System.nanoTime();
+        int done = 0;
+        for (Map.Entry<Long, long[]> entry : positions.entrySet()) {
+            long[] position = entry.getValue();
+            boolean blackToMove = position[2] != 0;
+            long player = blackToMove ? position[0] : position[1];
+            long opponent = blackToMove ? position[1] : position[0];
+            if (Bitboard.legalMoves(player, opponent) != 0) {
+                table.newSearch();
+                searcher.search(player, opponent, blackToMove, depth);
+                int score = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, searcher.getBestScore()));
+                entries.add(new long[]{entry.getKey(), searcher.getBestMove(), score, position[3]});
+            }
+            if (++done % 1000 == 0) {
+                log.info("Searched {} / {} positions ({} s)",
+                        done, positions.size(), (System.nanoTime() - start) / 1_000_000_000L);
+            }
+        }
+        entries.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_SIZE + entries.size() * OpeningBook.ENTRY_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(maxPlies).putInt(depth)
+                .putLong(entries.size()).putLong(0L);
+        for (long[] entry : entries) {
+            buffer.putLong(entry[0])
+                    .put((byte) entry[1])
+                    .put((byte) 0)
+                    .putShort((short) entry[2])
+                    .putInt((int) Math.min(Integer.MAX_VALUE, entry[3]));
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            out.write(buffer.array());
+        }
+    }
+}
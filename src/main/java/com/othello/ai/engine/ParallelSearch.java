@@ -0,0 +1,81 @@
+package com.othello.ai.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy SMP 병렬 탐색
+ * 호출한 스레드가 주 탐색을 맡고, 보조 탐색 스레드들이 같은 포지션을 ForkJoinPool에서 동시에 탐색한다.
+ * 모두 같은 트랜스포지션 테이블을 공유하므로 보조 스레드가 채운 엔트리가 주 탐색의 가지치기와 수 정렬에 쓰인다.
+ * 전체 AI 작업 스레드 수는 풀 크기로 제한된다.
+ */
+public final class ParallelSearch {
+
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Searcher> searchers;
+
+    public ParallelSearch(ForkJoinPool pool, ThreadLocal<Searcher> searchers) {
+        this.pool = pool;
+        this.searchers = searchers;
+    }
+
+    /**
+     * helpers 개수만큼 보조 탐색을 붙여 탐색하고, 가장 깊이 끝난 결과를 반환 (같으면 주 탐색 우선)
+     * 주 탐색기(호출 스레드의 탐색기)의 중단 요청은 호출한 쪽에서 미리 해제한다.
+     */
+    public SearchResult search(long player, long opponent, boolean blackToMove, int maxDepth, long deadline, int helpers) {
+        Searcher main = searchers.get();
+        if (helpers <= 0) {
+            main.search(player, opponent, blackToMove, maxDepth, deadline);
+            return main.result();
+        }
+
+        AtomicBoolean finished = new AtomicBoolean();
+        Queue<Searcher> running = new ConcurrentLinkedQueue<>();
+        List<ForkJoinTask<SearchResult>> tasks = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            // 보조 스레드 절반은 한 단계 더 깊게 탐색해 서로 다른 깊이의 엔트리를 채우도록 한다
+            int helperDepth = maxDepth + (i & 1);
+            tasks.add(pool.submit(() -> {
+                Searcher helper = searchers.get();
+                helper.clearStop();
+                running.add(helper);
+                try {
+                    if (finished.get()) {
+                        return null;
+                    }
+                    helper.search(player, opponent, blackToMove, helperDepth, deadline);
+                    return helper.result();
+                } finally {
+                    running.remove(helper);
+                }
+            }));
+        }
+
+        main.search(player, opponent, blackToMove, maxDepth, deadline);
+        SearchResult best = main.result();
+
+        // 주 탐색이 끝나면 보조 탐색을 멈추고 결과를 모은다
+        finished.set(true);
+        for (Searcher helper : running) {
+            helper.stop();
+        }
+        long nodes = best.getNodes();
+        for (ForkJoinTask<SearchResult> task : tasks) {
+            SearchResult result = task.join();
+            if (result == null) {
+                continue;
+            }
+            nodes += result.getNodes();
+            if (result.hasMove() && result.getDepth() > best.getDepth()) {
+                best = result;
+            }
+        }
+        return new SearchResult(best.getMove(), best.getScore(), best.getDepth(), nodes);
+    }
+}
@@ -0,0 +1,76 @@
+package com.othello.ai.engine;
+
+/**
+ * 패턴 평가에 쓰는 칸 묶음 (기준 방향의 칸 목록)
+ * 칸의 상태(빈 칸 0, 둘 차례인 쪽 1, 상대 2)를 나열 순서대로 3진수 자릿수로 보고
+ * 첫 칸이 가장 낮은 자리인 인덱스로 가중치 테이블을 찾는다.
+ * 보드를 회전/반전(Symmetry 방향)해 같은 모양의 다른 위치도 같은 테이블로 평가한다.
+ */
+public enum Pattern {
+
+    // 윗변 8칸 + 두 X 칸 (회전 4방향)
+    EDGE_2X(0, 1, 2, 3, 4, 5, 6, 7, 9, 14),
+    // 모서리 3x3 (회전 4방향)
+    CORNER_3X3(0, 1, 2, 8, 9, 10, 16, 17, 18),
+    // 모서리 2x5 (회전 4방향 x 전치 2)
+    CORNER_2X5(0, 1, 2, 3, 4, 8, 9, 10, 11, 12),
+    // 가장자리에서 두 번째~네 번째 줄 (회전 4방향)
+    HV2(8, 9, 10, 11, 12, 13, 14, 15),
+    HV3(16, 17, 18, 19, 20, 21, 22, 23),
+    HV4(24, 25, 26, 27, 28, 29, 30, 31),
+    // 대각선 (길이 8은 2방향, 나머지는 회전 4방향)
+    DIAG8(0, 9, 18, 27, 36, 45, 54, 63),
+    DIAG7(1, 10, 19, 28, 37, 46, 55),
+    DIAG6(2, 11, 20, 29, 38, 47),
+    DIAG5(3, 12, 21, 30, 39),
+    DIAG4(4, 13, 22, 31);
+
+    private final int[] squares;
+    private final int size;
+
+    Pattern(int... squares) {
+        this.squares = squares;
+        int size = 1;
+        for (int i = 0; i < squares.length; i++) {
+            size *= 3;
+        }
+        this.size = size;
+    }
+
+    public int[] getSquares() {
+        return squares.clone();
+    }
+
+    /**
+     * 가중치 테이블 크기 (3^칸 수)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 이 패턴을 보드 위에 놓는 방향 수
+     */
+    public int getOrientations() {
+        switch (this) {
+            case CORNER_2X5:
+                return 8;
+            case DIAG8:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * 기준 방향 패턴 인덱스를 칸 하나씩 계산 (테이블 생성/검증용, 평가에는 PatternEvaluator의 비트 연산 사용)
+     */
+    public int index(long player, long opponent) {
+        int index = 0;
+        for (int i = squares.length - 1; i >= 0; i--) {
+            long bit = 1L << squares[i];
+            index = index * 3 + ((player & bit) != 0 ? 1 : (opponent & bit) != 0 ? 2 : 0);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,125 @@
+package com.othello.ai.engine;
+
+/**
+ * 패턴 테이블 평가
+ * 보드를 회전/전치한 뒤 줄 단위 바이트를 3진수 변환표로 바꿔 패턴 인덱스를 만들고,
+ * 게임 단계별 short 테이블에서 가중치를 읽어 더한다. 보드 칸을 하나씩 훑지 않는다.
+ * 이동성, 잠재 이동성, 안정 돌 차이는 BoardFeatures로 계산해 단계별 특징 가중치를 곱해 더한다.
+ */
+public class PatternEvaluator implements Evaluator {
+
+    // 바이트(한 줄 8칸의 비트) → 같은 자리의 3진수 (비트 i가 3^i)
+    private static final int[] BASE3 = new int[256];
+    // 비트를 모으면 열 번호 자리에 오는 대각선 마스크 (offset d: (r, r + d) 칸들)
+    private static final long[] DIAGONALS = new long[5];
+    private static final long FILE_GATHER = 0x0101010101010101L;
+
+    private static final int EDGE_2X = Pattern.EDGE_2X.ordinal();
+    private static final int CORNER_3X3 = Pattern.CORNER_3X3.ordinal();
+    private static final int CORNER_2X5 = Pattern.CORNER_2X5.ordinal();
+    private static final int HV2 = Pattern.HV2.ordinal();
+    private static final int HV3 = Pattern.HV3.ordinal();
+    private static final int HV4 = Pattern.HV4.ordinal();
+    private static final int DIAG8 = Pattern.DIAG8.ordinal();
+
+    static {
+        for (int bits = 0; bits < 256; bits++) {
+            int value = 0;
+            for (int i = 7; i >= 0; i--) {
+                value = value * 3 + ((bits >>> i) & 1);
+            }
+            BASE3[bits] = value;
+        }
+        for (int d = 0; d < DIAGONALS.length; d++) {
+            for (int row = 0; row + d < Bitboard.BOARD_SIZE; row++) {
+                DIAGONALS[d] |= 1L << Bitboard.square(row, row + d);
+            }
+        }
+    }
+
+    private final PatternWeights weights;
+
+    public PatternEvaluator(PatternWeights weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    public int evaluate(long player, long opponent) {
+        int phase = weights.phase(Long.bitCount(player | opponent));
+        short[][] tables = weights.tables(phase);
+
+        int score = features(weights.features(phase), player, opponent);
+        long p = player;
+        long o = opponent;
+        for (int orientation = 0; orientation < 4; orientation++) {
+            score += evaluateOrientation(tables, p, o, orientation < 2);
+            // 전치한 방향은 모양이 대칭이 아닌 2x5 패턴만
+            long tp = Bitboard.flipDiagonal(p);
+            long to = Bitboard.flipDiagonal(o);
+            score += tables[CORNER_2X5][lineIndex(tp, to, 0, 0x1F) + 243 * lineIndex(tp, to, 1, 0x1F)];
+            // 90도 회전 = 전치 + 상하 반전이므로 전치한 보드를 재사용
+            p = Bitboard.flipVertical(tp);
+            o = Bitboard.flipVertical(to);
+        }
+        score /= PatternWeights.SCALE;
+        // 승패 확정 점수와 겹치지 않도록 제한
+        return Math.max(-Searcher.WIN_SCORE + 1, Math.min(Searcher.WIN_SCORE - 1, score));
+    }
+
+    private static int features(short[] features, long player, long opponent) {
+        int score = 0;
+        int mobility = features[PatternWeights.Feature.MOBILITY.ordinal()];
+        if (mobility != 0) {
+            score += mobility * (BoardFeatures.mobility(player, opponent) - BoardFeatures.mobility(opponent, player));
+        }
+        int potentialMobility = features[PatternWeights.Feature.POTENTIAL_MOBILITY.ordinal()];
+        if (potentialMobility != 0) {
+            score += potentialMobility * (BoardFeatures.potentialMobility(player, opponent)
+                    - BoardFeatures.potentialMobility(opponent, player));
+        }
+        int stability = features[PatternWeights.Feature.STABILITY.ordinal()];
+        if (stability != 0) {
+            score += stability * (Long.bitCount(BoardFeatures.stableDiscs(player, opponent))
+                    - Long.bitCount(BoardFeatures.stableDiscs(opponent, player)));
+        }
+        return score;
+    }
+
+    /**
+     * 한 방향에서 윗변/왼쪽 위 모서리에 놓인 패턴들의 가중치 합
+     */
+    private static int evaluateOrientation(short[][] tables, long p, long o, boolean mainDiagonal) {
+        int row0 = lineIndex(p, o, 0, 0xFF);
+        int score = tables[EDGE_2X][row0 + 6561 * digit(p, o, 9) + 19683 * digit(p, o, 14)];
+        score += tables[CORNER_3X3][lineIndex(p, o, 0, 0x07) + 27 * lineIndex(p, o, 1, 0x07)
+                + 729 * lineIndex(p, o, 2, 0x07)];
+        score += tables[CORNER_2X5][lineIndex(p, o, 0, 0x1F) + 243 * lineIndex(p, o, 1, 0x1F)];
+        score += tables[HV2][lineIndex(p, o, 1, 0xFF)];
+        score += tables[HV3][lineIndex(p, o, 2, 0xFF)];
+        score += tables[HV4][lineIndex(p, o, 3, 0xFF)];
+        // 길이 8 대각선은 두 방향에서만 (나머지 방향은 같은 대각선)
+        for (int d = mainDiagonal ? 0 : 1; d < DIAGONALS.length; d++) {
+            score += tables[DIAG8 + d][diagonalIndex(p, o, d)];
+        }
+        return score;
+    }
+
+    private static int lineIndex(long p, long o, int row, int mask) {
+        int shift = row << 3;
+        return BASE3[(int) (p >>> shift) & mask] + 2 * BASE3[(int) (o >>> shift) & mask];
+    }
+
+    private static int digit(long p, long o, int square) {
+        return (int) ((p >>> square) & 1) + 2 * (int) ((o >>> square) & 1);
+    }
+
+    /**
+     * 대각선 칸들을 곱셈으로 맨 위 바이트에 모아(칸마다 열이 달라 겹치지 않음) 3진수 인덱스로 변환
+     */
+    private static int diagonalIndex(long p, long o, int d) {
+        int shift = 56 + d;
+        int pb = (int) (((p & DIAGONALS[d]) * FILE_GATHER) >>> shift);
+        int ob = (int) (((o & DIAGONALS[d]) * FILE_GATHER) >>> shift);
+        return BASE3[pb] + 2 * BASE3[ob];
+    }
+}
@@ -0,0 +1,272 @@
+package com.othello.ai.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 게임 단계별 패턴 가중치 테이블 (short[단계][패턴][3^칸 수]) + 특징 가중치 (short[단계][특징])
+ * 가중치 단위는 1/SCALE 점이며, 단계는 보드 위 돌 개수로 나눈다.
+ *
+ * 파일 형식 (빅 엔디안): MAGIC, VERSION, 단계 수, 패턴 수, 패턴별 테이블 크기, 이어서 단계 → 패턴 순서로 short 배열,
+ * 버전 2부터는 마지막에 단계별 특징 가중치 (Feature 순서의 short). 버전 1 파일은 특징 가중치 0으로 읽는다.
+ * 학습한 가중치를 같은 형식으로 저장하면 그대로 쓸 수 있고, 파일이 없으면 위치 휴리스틱으로 만든 기본 테이블을 쓴다.
+ * 기본 테이블을 파일로 저장하려면 테스트 소스의 PatternWeightsTool.
+ */
+public final class PatternWeights {
+
+    public static final int SCALE = 8;
+    public static final int DEFAULT_PHASES = 6;
+
+    private static final int MAGIC = 0x4F545057; // "OTPW"
+    private static final int VERSION = 2;
+
+    // 기본 테이블용 칸별 위치 점수 (X/C 칸은 인접 모서리가 비어 있을 때의 값)
+    private static final int[] SQUARE_VALUES = {
+            25, -4, 3, 2, 2, 3, -4, 25,
+            -4, -8, -1, -1, -1, -1, -8, -4,
+            3, -1, 0, 0, 0, 0, -1, 3,
+            2, -1, 0, 0, 0, 0, -1, 2,
+            2, -1, 0, 0, 0, 0, -1, 2,
+            3, -1, 0, 0, 0, 0, -1, 3,
+            -4, -8, -1, -1, -1, -1, -8, -4,
+            25, -4, 3, 2, 2, 3, -4, 25
+    };
+    // 인접 모서리가 차 있을 때의 X/C 칸 점수
+    private static final int OCCUPIED_CORNER_X_VALUE = 0;
+    private static final int OCCUPIED_CORNER_C_VALUE = 1;
+    // 단계별 돌 하나당 점수 (종반으로 갈수록 돌 개수 비중을 키움)
+    private static final int[] DISC_VALUES = {0, 0, 0, 1, 2, 4};
+    // 단계별 특징 점수 (이동성 차이, 잠재 이동성 차이, 안정 돌 차이 하나당)
+    private static final int[][] FEATURE_VALUES = {
+            {3, 1, 4}, {3, 1, 4}, {3, 1, 4}, {2, 1, 3}, {2, 0, 3}, {1, 0, 2}
+    };
+
+    /**
+     * 패턴 테이블과 함께 더하는 비트보드 특징 (둘 차례인 쪽 - 상대)
+     */
+    public enum Feature {
+        MOBILITY,
+        POTENTIAL_MOBILITY,
+        STABILITY
+    }
+
+    private final short[][][] tables;
+    private final short[][] features;
+
+    private PatternWeights(short[][][] tables, short[][] features) {
+        this.tables = tables;
+        this.features = features;
+    }
+
+    public int getPhases() {
+        return tables.length;
+    }
+
+    /**
+     * 돌 개수(4~64)에 해당하는 단계
+     */
+    public int phase(int discs) {
+        int phase = (discs - 4) * tables.length / 61;
+        return Math.max(0, Math.min(tables.length - 1, phase));
+    }
+
+    /**
+     * 단계별 패턴 테이블 (Pattern 순서)
+     */
+    short[][] tables(int phase) {
+        return tables[phase];
+    }
+
+    /**
+     * 단계별 특징 가중치 (Feature 순서)
+     */
+    short[] features(int phase) {
+        return features[phase];
+    }
+
+    public static PatternWeights read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a pattern weight file");
+        }
+        int version = in.readInt();
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Unsupported pattern weight file version: " + version);
+        }
+        int phases = in.readInt();
+        int patterns = in.readInt();
+        Pattern[] values = Pattern.values();
+        if (phases <= 0 || patterns != values.length) {
+            throw new IOException("Pattern weight file does not match patterns: phases=" + phases + ", patterns=" + patterns);
+        }
+        for (Pattern pattern : values) {
+            int size = in.readInt();
+            if (size != pattern.getSize()) {
+                throw new IOException("Table size mismatch for " + pattern + ": " + size);
+            }
+        }
+        short[][][] tables = new short[phases][values.length][];
+        for (int phase = 0; phase < phases; phase++) {
+            for (Pattern pattern : values) {
+                short[] table = new short[pattern.getSize()];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = in.readShort();
+                }
+                tables[phase][pattern.ordinal()] = table;
+            }
+        }
+        short[][] features = new short[phases][Feature.values().length];
+        if (version >= 2) {
+            for (short[] phaseFeatures : features) {
+                for (int i = 0; i < phaseFeatures.length; i++) {
+                    phaseFeatures[i] = in.readShort();
+                }
+            }
+        }
+        return new PatternWeights(tables, features);
+    }
+
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(tables.length);
+        out.writeInt(Pattern.values().length);
+        for (Pattern pattern : Pattern.values()) {
+            out.writeInt(pattern.getSize());
+        }
+        for (short[][] phaseTables : tables) {
+            for (short[] table : phaseTables) {
+                for (short weight : table) {
+                    out.writeShort(weight);
+                }
+            }
+        }
+        for (short[] phaseFeatures : features) {
+            for (short weight : phaseFeatures) {
+                out.writeShort(weight);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * 위치 점수표로 만든 기본 가중치
+     * 각 칸 점수를 그 칸을 덮는 패턴 수로 나눠 패턴 점수의 합이 칸 점수의 합이 되도록 하고,
+     * X/C 칸은 인접 모서리가 같은 패턴 안에 있을 때만 모서리 상태에 따라 점수를 준다.
+     */
+    public static PatternWeights generateDefault() {
+        Pattern[] patterns = Pattern.values();
+        int[] coverage = coverage(patterns);
+        short[][][] tables = new short[DEFAULT_PHASES][patterns.length][];
+        short[][] features = new short[DEFAULT_PHASES][Feature.values().length];
+        for (int phase = 0; phase < DEFAULT_PHASES; phase++) {
+            for (Feature feature : Feature.values()) {
+                features[phase][feature.ordinal()] = (short) (FEATURE_VALUES[phase][feature.ordinal()] * SCALE);
+            }
+            for (Pattern pattern : patterns) {
+                int[] squares = pattern.getSquares();
+                short[] table = new short[pattern.getSize()];
+                int[] digits = new int[squares.length];
+                for (int index = 0; index < table.length; index++) {
+                    int rest = index;
+                    for (int i = 0; i < squares.length; i++) {
+                        digits[i] = rest % 3;
+                        rest /= 3;
+                    }
+                    double score = 0;
+                    for (int i = 0; i < squares.length; i++) {
+                        if (digits[i] == 0 || !isResolvable(squares, squares[i])) {
+                            continue;
+                        }
+                        int value = squareValue(squares, digits, squares[i]) + DISC_VALUES[phase];
+                        score += (double) (digits[i] == 1 ? value : -value) * SCALE / coverage[squares[i]];
+                    }
+                    table[index] = (short) Math.round(score);
+                }
+                tables[phase][pattern.ordinal()] = table;
+            }
+        }
+        return new PatternWeights(tables, features);
+    }
+
+    /**
+     * 칸별로 점수를 매기는 패턴 인스턴스 수 (모든 방향 포함)
+     */
+    private static int[] coverage(Pattern[] patterns) {
+        int[] coverage = new int[Bitboard.SQUARES];
+        for (Pattern pattern : patterns) {
+            int[] squares = pattern.getSquares();
+            for (int orientation = 0; orientation < pattern.getOrientations(); orientation++) {
+                for (int square : squares) {
+                    if (isResolvable(squares, square)) {
+                        coverage[boardSquare(square, orientation)]++;
+                    }
+                }
+            }
+        }
+        return coverage;
+    }
+
+    /**
+     * 방향 변환 후 기준 칸 square에 오는 원래 보드의 칸
+     */
+    private static int boardSquare(int square, int orientation) {
+        for (int candidate = 0; candidate < Bitboard.SQUARES; candidate++) {
+            if (Symmetry.transformSquare(candidate, orientation) == square) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Orientation is not a permutation");
+    }
+
+    private static boolean isResolvable(int[] squares, int square) {
+        int corner = adjacentCorner(square);
+        if (corner < 0) {
+            return true;
+        }
+        for (int s : squares) {
+            if (s == corner) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int squareValue(int[] squares, int[] digits, int square) {
+        int corner = adjacentCorner(square);
+        if (corner < 0) {
+            return SQUARE_VALUES[square];
+        }
+        for (int i = 0; i < squares.length; i++) {
+            if (squares[i] == corner && digits[i] != 0) {
+                return isXSquare(square) ? OCCUPIED_CORNER_X_VALUE : OCCUPIED_CORNER_C_VALUE;
+            }
+        }
+        return SQUARE_VALUES[square];
+    }
+
+    /**
+     * X/C 칸이면 인접 모서리, 아니면 -1
+     */
+    private static int adjacentCorner(int square) {
+        int row = Bitboard.row(square);
+        int col = Bitboard.col(square);
+        int cornerRow = row <= 1 ? 0 : row >= 6 ? 7 : -1;
+        int cornerCol = col <= 1 ? 0 : col >= 6 ? 7 : -1;
+        if (cornerRow < 0 || cornerCol < 0 || (row == cornerRow && col == cornerCol)) {
+            return -1;
+        }
+        return Bitboard.square(cornerRow, cornerCol);
+    }
+
+    private static boolean isXSquare(int square) {
+        return Bitboard.row(square) != 0 && Bitboard.row(square) != 7
+                && Bitboard.col(square) != 0 && Bitboard.col(square) != 7;
+    }
+}
@@ -0,0 +1,113 @@
+package com.othello.ai.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 수 생성기 정확성/처리량 검사 (perft)
+ * 초기 포지션에서 깊이 N까지의 말단 노드 수를 세어 알려진 기준값과 비교한다.
+ * 패스도 한 수(한 깊이)로 세고, 깊이에 닿기 전에 게임이 끝나면 그 포지션을 말단 노드 하나로 센다.
+ * 기준값 비교는 PerftTest (빌드 시 실행), 깊이별 처리량 측정은 테스트 소스의 PerftReport.
+ */
+public final class Perft {
+
+    private Perft() {
+    }
+
+    /**
+     * 둘 차례인 쪽(player) 기준으로 depth 깊이까지의 말단 노드 수
+     */
+    public static long perft(long player, long opponent, int depth) {
+        return perft(player, opponent, depth, false);
+    }
+
+    private static long perft(long player, long opponent, int depth, boolean passed) {
+        if (depth == 0) {
+            return 1;
+        }
+        long legal = Bitboard.legalMoves(player, opponent);
+        if (legal == 0) {
+            if (passed) {
+                // 양쪽 모두 둘 곳이 없음: 게임 종료
+                return 1;
+            }
+            return perft(opponent, player, depth - 1, true);
+        }
+        if (depth == 1) {
+            return Long.bitCount(legal);
+        }
+        long nodes = 0;
+        while (legal != 0) {
+            int square = Long.numberOfTrailingZeros(legal);
+            legal &= legal - 1;
+            long flipped = Bitboard.flips(player, opponent, square);
+            nodes += perft(opponent & ~flipped, player | flipped | (1L << square), depth - 1, false);
+        }
+        return nodes;
+    }
+
+    /**
+     * 스레드 수만큼 작업이 생길 때까지 위쪽 깊이를 펼친 뒤, 각 하위 포지션을 병렬로 센다
+     */
+    public static long perft(long player, long opponent, int depth, int threads) {
+        if (threads <= 1 || depth < 2) {
+            return perft(player, opponent, depth);
+        }
+        List<long[]> frontier = new ArrayList<>();
+        frontier.add(new long[]{player, opponent, 0L});
+        int remaining = depth;
+        // 부하가 고르게 나뉘도록 스레드 수의 몇 배 이상 작업이 생길 때까지 펼친다 (말단 직전 깊이까지만)
+        while (frontier.size() < threads * 4 && remaining > 1) {
+            frontier = expand(frontier);
+            remaining--;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>(frontier.size());
+            int subDepth = remaining;
+            for (long[] node : frontier) {
+                results.add(executor.submit(() -> node[2] < 0 ? 1L : perft(node[0], node[1], subDepth, node[2] != 0)));
+            }
+            long nodes = 0;
+            for (Future<Long> result : results) {
+                nodes += result.get();
+            }
+            return nodes;
+        } catch (Exception e) {
+            throw new IllegalStateException("Perft worker failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 깊이 펼치기. 노드 = {player, opponent, 상태}: 상태 0 = 보통, 1 = 직전 패스, -1 = 게임 종료(말단)
+     */
+    private static List<long[]> expand(List<long[]> frontier) {
+        List<long[]> next = new ArrayList<>();
+        for (long[] node : frontier) {
+            if (node[2] < 0) {
+                next.add(node);
+                continue;
+            }
+            long player = node[0];
+            long opponent = node[1];
+            long legal = Bitboard.legalMoves(player, opponent);
+            if (legal == 0) {
+                next.add(node[2] != 0 ? new long[]{player, opponent, -1L} : new long[]{opponent, player, 1L});
+                continue;
+            }
+            while (legal != 0) {
+                int square = Long.numberOfTrailingZeros(legal);
+                legal &= legal - 1;
+                long flipped = Bitboard.flips(player, opponent, square);
+                next.add(new long[]{opponent & ~flipped, player | flipped | (1L << square), 0L});
+            }
+        }
+        return next;
+    }
+}
@@ -0,0 +1,10 @@
+package com.othello.ai.engine;
+
+/**
+ * 루트 탐색 방식
+ */
+public enum SearchAlgorithm {
+    ALPHA_BETA, // 전체 창 알파-베타
+    PVS,        // Principal Variation Search (NegaScout): 첫 수 이후 널 윈도우 + 재탐색
+    MTDF        // MTD(f): 이전 반복 점수를 추정값으로 한 널 윈도우 탐색 반복
+}
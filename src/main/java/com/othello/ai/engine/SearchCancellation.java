@@ -0,0 +1,47 @@
+package com.othello.ai.engine;
+
+/**
+ * 요청 하나의 탐색 취소 핸들 (클라이언트 연결 끊김, 요청 시간 초과 등)
+ * 탐색하는 스레드가 자기 탐색기를 붙여 두면 다른 스레드의 cancel()이 그 탐색기에 중단을 요청한다.
+ * 붙이기/떼기/취소를 한 락으로 묶어, 탐색이 끝나 뗀 뒤의 취소가 같은 스레드의 다음 요청을 멈추지 않게 한다.
+ */
+public final class SearchCancellation {
+
+    private boolean cancelled;
+    private Searcher searcher;
+    private EndgameSolver endgameSolver;
+
+    public synchronized void cancel() {
+        cancelled = true;
+        stopAttached();
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 탐색 시작 전에 호출. 이미 취소됐으면 붙이자마자 중단 요청한다.
+     */
+    public synchronized void attach(Searcher searcher, EndgameSolver endgameSolver) {
+        this.searcher = searcher;
+        this.endgameSolver = endgameSolver;
+        if (cancelled) {
+            stopAttached();
+        }
+    }
+
+    public synchronized void detach() {
+        searcher = null;
+        endgameSolver = null;
+    }
+
+    private void stopAttached() {
+        if (searcher != null) {
+            searcher.stop();
+        }
+        if (endgameSolver != null) {
+            endgameSolver.stop();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.othello.ai.engine;
+
+/**
+ * 탐색 결과 (최선의 수, 점수, 완료 깊이, 노드 수)
+ */
+public final class SearchResult {
+
+    // 수 없음 (둘 곳이 없거나, 시간 초과, 북/캐시에 없음)
+    public static final SearchResult NONE = new SearchResult(Searcher.NO_MOVE, 0, 0, 0);
+
+    private final int move;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+
+    public SearchResult(int move, int score, int depth, long nodes) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+    }
+
+    public int getMove() { return move; }
+    public int getScore() { return score; }
+    public int getDepth() { return depth; }
+    public long getNodes() { return nodes; }
+
+    public boolean hasMove() {
+        return move != Searcher.NO_MOVE;
+    }
+}
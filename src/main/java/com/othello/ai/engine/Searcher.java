@@ -0,0 +1,422 @@
+package com.othello.ai.engine;
+
+/**
+ * 알파-베타 탐색 코어 (네가맥스)
+ * 스레드마다 하나씩 두고 재사용한다. 보드 스택과 수 버퍼를 미리 할당해 두어 탐색 중에는 객체를 만들지 않는다.
+ */
+public final class Searcher {
+
+    public static final int INFINITY = 1_000_000;
+    public static final int WIN_SCORE = 1000;
+    public static final int NO_MOVE = -1;
+    public static final long NO_DEADLINE = 0L;
+
+    // 60수 + 패스(연속 불가)까지 담을 수 있는 최대 탐색 깊이
+    public static final int MAX_PLY = 128;
+    private static final int MAX_MOVES = 32;
+    private static final int TIME_CHECK_INTERVAL = 1023;
+
+    // 수 정렬 점수 계층: TT 수 > 모서리 > 킬러 > 히스토리 > 상대 이동성 감소
+    private static final int TT_MOVE_SCORE = 1 << 30;
+    private static final int CORNER_SCORE = 1 << 28;
+    private static final int KILLER_1_SCORE = 1 << 27;
+    private static final int KILLER_2_SCORE = 1 << 26;
+    private static final int HISTORY_SHIFT = 6;
+    private static final int HISTORY_MAX = 1 << 19;
+
+    private final Evaluator evaluator;
+    private final TranspositionTable tt;
+
+    // ply별 보드 스택: 둘 차례인 쪽 / 상대
+    private final long[] players = new long[MAX_PLY + 1];
+    private final long[] opponents = new long[MAX_PLY + 1];
+
+    // ply별 Zobrist 키 (수를 둘 때 증분 갱신)
+    private final long[] keys = new long[MAX_PLY + 1];
+    private boolean rootBlack;
+
+    // ply별 수 버퍼와 정렬 점수
+    private final int[][] moves = new int[MAX_PLY + 1][MAX_MOVES];
+    private final int[][] orderScores = new int[MAX_PLY + 1][MAX_MOVES];
+
+    // 킬러 수 (ply별 2개)와 히스토리 휴리스틱 (색, 칸)
+    private final int[][] killers = new int[MAX_PLY + 1][2];
+    private final int[][] history = new int[2][Bitboard.SQUARES];
+    private boolean moveOrdering = true;
+    private SearchAlgorithm algorithm = SearchAlgorithm.PVS;
+
+    private int rootMove = NO_MOVE;
+    private int bestMove = NO_MOVE;
+    private int bestScore;
+    private int completedDepth;
+    private long nodes;
+
+    private long deadline = NO_DEADLINE;
+    private boolean aborted;
+
+    // 다른 스레드에서 탐색 중단을 요청할 때 사용 (병렬 탐색 보조 스레드 종료, 요청 취소)
+    private volatile boolean stopRequested;
+
+    public Searcher(Evaluator evaluator, TranspositionTable tt) {
+        this.evaluator = evaluator;
+        this.tt = tt;
+    }
+
+    /**
+     * 고정 깊이 탐색. 둘 차례인 쪽 관점의 점수를 반환하고 최선의 수는 {@link #getBestMove()}로 조회한다.
+     */
+    public int search(long player, long opponent, boolean blackToMove, int depth) {
+        return search(player, opponent, blackToMove, depth, NO_DEADLINE);
+    }
+
+    /**
+     * 반복 심화 탐색. 깊이 1부터 maxDepth까지 늘려 가며 탐색하고, 마감 시각(System.nanoTime 기준)을 넘기면
+     * 진행 중인 반복을 버리고 마지막으로 끝난 반복의 결과를 반환한다.
+     * 앞선 반복의 최선의 수는 트랜스포지션 테이블을 통해 다음 반복의 수 정렬에 쓰인다.
+     * 테이블 세대({@link TranspositionTable#newSearch()})는 요청을 시작하는 쪽에서 올린다.
+     */
+    public int search(long player, long opponent, boolean blackToMove, int maxDepth, long deadline) {
+        players[0] = player;
+        opponents[0] = opponent;
+        keys[0] = blackToMove ? Zobrist.hash(player, opponent, true) : Zobrist.hash(opponent, player, false);
+        rootBlack = blackToMove;
+        bestMove = NO_MOVE;
+        bestScore = 0;
+        completedDepth = 0;
+        nodes = 0;
+        aborted = false;
+        resetOrdering();
+
+        for (int depth = 1; depth <= Math.max(1, maxDepth); depth++) {
+            // 첫 반복은 항상 끝까지 탐색해서 둘 수 있는 수를 확보한다
+            this.deadline = depth == 1 ? NO_DEADLINE : deadline;
+            rootMove = NO_MOVE;
+            int score = algorithm == SearchAlgorithm.MTDF
+                    ? mtdf(depth, bestScore)
+                    : negamax(0, depth, -INFINITY, INFINITY);
+            if (aborted) {
+                break;
+            }
+            bestMove = rootMove;
+            bestScore = score;
+            completedDepth = depth;
+        }
+        return bestScore;
+    }
+
+    /**
+     * MTD(f): 널 윈도우 탐색으로 점수의 상한/하한을 좁혀 가며 정확한 값으로 수렴
+     * 루트 최선의 수는 하한을 끌어올린(fail-high) 탐색에서만 확정된다.
+     */
+    private int mtdf(int depth, int guess) {
+        int score = guess;
+        int lower = -INFINITY;
+        int upper = INFINITY;
+        int provenMove = NO_MOVE;
+        while (lower < upper) {
+            int beta = score == lower ? score + 1 : score;
+            rootMove = NO_MOVE;
+            score = negamax(0, depth, beta - 1, beta);
+            if (aborted) {
+                return 0;
+            }
+            if (score < beta) {
+                upper = score;
+            } else {
+                lower = score;
+                provenMove = rootMove;
+            }
+        }
+        rootMove = provenMove;
+        return score;
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        if ((++nodes & TIME_CHECK_INTERVAL) == 0
+                && (stopRequested || (deadline != NO_DEADLINE && System.nanoTime() - deadline > 0))) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+        long player = players[ply];
+        long opponent = opponents[ply];
+
+        if (depth == 0 || ply == MAX_PLY) {
+            if (Bitboard.isGameOver(player, opponent)) {
+                return terminalScore(player, opponent);
+            }
+            return evaluator.evaluate(player, opponent);
+        }
+
+        long legal = Bitboard.legalMoves(player, opponent);
+        if (legal == 0) {
+            if (Bitboard.legalMoves(opponent, player) == 0) {
+                return terminalScore(player, opponent);
+            }
+            // 수를 둘 수 없으면 패스하고 상대방 차례로 (깊이는 소모하지 않음)
+            players[ply + 1] = opponent;
+            opponents[ply + 1] = player;
+            keys[ply + 1] = Zobrist.afterPass(keys[ply]);
+            return -negamax(ply + 1, depth, -beta, -alpha);
+        }
+
+        // 트랜스포지션 테이블 조회 (루트는 최선의 수를 기록해야 하므로 컷하지 않음)
+        long key = keys[ply];
+        long entry = tt.probe(key);
+        int ttMove = entry != 0 ? TranspositionTable.move(entry) : NO_MOVE;
+        if (entry != 0 && ply > 0 && TranspositionTable.depth(entry) >= depth) {
+            int score = TranspositionTable.score(entry);
+            int bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.BOUND_EXACT
+                    || (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+                    || (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+                return score;
+            }
+        }
+
+        int[] buffer = moves[ply];
+        int count = generate(legal, buffer);
+        if (moveOrdering) {
+            scoreMoves(ply, depth, count, ttMove);
+        } else if (ttMove != NO_MOVE) {
+            promote(buffer, count, ttMove);
+        }
+
+        int alphaOrig = alpha;
+        int bestValue = -INFINITY;
+        int bestSquare = NO_MOVE;
+        for (int i = 0; i < count; i++) {
+            if (moveOrdering) {
+                selectNext(ply, i, count);
+            }
+            int square = buffer[i];
+            long flipped = Bitboard.flips(player, opponent, square);
+
+            // 수 실행: 다음 ply 슬롯에 결과를 쓰므로 되돌리기는 ply 인덱스를 되돌리는 것으로 끝난다
+            players[ply + 1] = opponent & ~flipped;
+            opponents[ply + 1] = player | flipped | (1L << square);
+            keys[ply + 1] = Zobrist.afterMove(keys[ply], isBlackToMove(ply), square, flipped);
+
+            int value;
+            if (algorithm == SearchAlgorithm.PVS && i > 0) {
+                // 첫 수(PV 후보)보다 나은지 널 윈도우로 확인하고, 그렇다면 전체 창으로 재탐색
+                value = -negamax(ply + 1, depth - 1, -alpha - 1, -alpha);
+                if (value > alpha && value < beta && !aborted) {
+                    value = -negamax(ply + 1, depth - 1, -beta, -alpha);
+                }
+            } else {
+                value = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            }
+            if (aborted) {
+                return 0;
+            }
+
+            if (value > bestValue) {
+                bestValue = value;
+                bestSquare = square;
+                if (ply == 0) {
+                    rootMove = square;
+                }
+            }
+            if (value > alpha) {
+                alpha = value;
+            }
+            if (alpha >= beta) {
+                recordCutoff(ply, depth, square);
+                break; // 알파-베타 가지치기
+            }
+        }
+
+        int bound = bestValue <= alphaOrig ? TranspositionTable.BOUND_UPPER
+                : bestValue >= beta ? TranspositionTable.BOUND_LOWER
+                : TranspositionTable.BOUND_EXACT;
+        tt.store(key, depth, bound, bestValue, bestSquare);
+        return bestValue;
+    }
+
+    /**
+     * 패스도 ply를 하나 쓰므로 ply 홀짝으로 둘 차례의 색이 정해진다
+     */
+    private boolean isBlackToMove(int ply) {
+        return ((ply & 1) == 0) == rootBlack;
+    }
+
+    /**
+     * 둘 수 있는 칸을 버퍼에 채우고 개수를 반환
+     */
+    private static int generate(long legal, int[] buffer) {
+        int count = 0;
+        while (legal != 0) {
+            buffer[count++] = Long.numberOfTrailingZeros(legal);
+            legal &= legal - 1;
+        }
+        return count;
+    }
+
+    /**
+     * 수 정렬 점수 계산: TT 수, 모서리, 킬러, 히스토리, 상대 이동성을 가장 많이 줄이는 수 순
+     */
+    private void scoreMoves(int ply, int depth, int count, int ttMove) {
+        int[] buffer = moves[ply];
+        int[] scores = orderScores[ply];
+        long player = players[ply];
+        long opponent = opponents[ply];
+        int[] killer = killers[ply];
+        int[] colorHistory = history[isBlackToMove(ply) ? 0 : 1];
+
+        for (int i = 0; i < count; i++) {
+            int square = buffer[i];
+            long bit = 1L << square;
+            int score;
+            if (square == ttMove) {
+                score = TT_MOVE_SCORE;
+            } else if ((bit & Bitboard.CORNERS) != 0) {
+                score = CORNER_SCORE;
+            } else {
+                score = colorHistory[square] << HISTORY_SHIFT;
+                if (square == killer[0]) {
+                    score += KILLER_1_SCORE;
+                } else if (square == killer[1]) {
+                    score += KILLER_2_SCORE;
+                }
+                // 리프 직전에는 비용 대비 효과가 낮아 이동성 계산을 생략
+                if (depth > 1) {
+                    long flipped = Bitboard.flips(player, opponent, square);
+                    long opponentMoves = Bitboard.legalMoves(opponent & ~flipped, player | flipped | bit);
+                    score += 63 - Long.bitCount(opponentMoves);
+                }
+            }
+            scores[i] = score;
+        }
+    }
+
+    /**
+     * 남은 수 중 정렬 점수가 가장 높은 수를 i번째로 가져옴 (컷이 나면 나머지는 정렬하지 않음)
+     */
+    private void selectNext(int ply, int i, int count) {
+        int[] buffer = moves[ply];
+        int[] scores = orderScores[ply];
+        int best = i;
+        for (int j = i + 1; j < count; j++) {
+            if (scores[j] > scores[best]) {
+                best = j;
+            }
+        }
+        if (best != i) {
+            int square = buffer[i];
+            buffer[i] = buffer[best];
+            buffer[best] = square;
+            int score = scores[i];
+            scores[i] = scores[best];
+            scores[best] = score;
+        }
+    }
+
+    /**
+     * 베타 컷을 일으킨 수를 킬러/히스토리에 반영
+     */
+    private void recordCutoff(int ply, int depth, int square) {
+        int[] killer = killers[ply];
+        if (killer[0] != square) {
+            killer[1] = killer[0];
+            killer[0] = square;
+        }
+        int[] colorHistory = history[isBlackToMove(ply) ? 0 : 1];
+        colorHistory[square] += depth * depth;
+        if (colorHistory[square] > HISTORY_MAX) {
+            for (int[] h : history) {
+                for (int j = 0; j < h.length; j++) {
+                    h[j] >>= 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * 새 탐색 시작 시 킬러는 비우고 히스토리는 절반으로 줄여 이전 요청의 영향을 낮춘다
+     */
+    private void resetOrdering() {
+        for (int[] killer : killers) {
+            killer[0] = NO_MOVE;
+            killer[1] = NO_MOVE;
+        }
+        for (int[] h : history) {
+            for (int j = 0; j < h.length; j++) {
+                h[j] >>= 1;
+            }
+        }
+    }
+
+    /**
+     * 지정한 수를 버퍼 맨 앞으로 이동 (이전 반복/트랜스포지션 테이블의 최선의 수를 먼저 탐색)
+     */
+    private static void promote(int[] buffer, int count, int square) {
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == square) {
+                buffer[i] = buffer[0];
+                buffer[0] = square;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 게임 종료 시 승리/패배 점수
+     */
+    private static int terminalScore(long player, long opponent) {
+        int diff = Long.bitCount(player) - Long.bitCount(opponent);
+        return diff > 0 ? WIN_SCORE : diff < 0 ? -WIN_SCORE : 0;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * 진행 중인 탐색 중단 요청 (다른 스레드에서 호출 가능). 마지막으로 끝난 반복의 결과가 남는다.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * 중단 요청 해제. 새 탐색을 맡기기 전에 호출한다.
+     */
+    public void clearStop() {
+        stopRequested = false;
+    }
+
+    /**
+     * 마지막 탐색 결과 스냅샷 (다른 스레드로 넘길 때 사용)
+     */
+    public SearchResult result() {
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes);
+    }
+
+    /**
+     * 수 정렬 사용 여부 (끄면 TT 수만 먼저 두고 나머지는 칸 순서대로 탐색)
+     */
+    public void setMoveOrdering(boolean moveOrdering) {
+        this.moveOrdering = moveOrdering;
+    }
+
+    public void setAlgorithm(SearchAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * 마지막으로 끝까지 탐색한 반복의 깊이
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
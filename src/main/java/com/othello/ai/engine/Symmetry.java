@@ -0,0 +1,113 @@
+package com.othello.ai.engine;
+
+/**
+ * 보드 대칭 (회전 4 x 반전 2 = 8가지) 변환과 정규화
+ * 대칭인 포지션들은 (흑, 백) 마스크가 가장 작은 방향으로 모아 같은 키를 쓰고,
+ * 정규화된 보드에서 구한 수는 역변환으로 원래 보드의 칸으로 되돌린다.
+ * 방향 0~3은 90도씩 회전, 4~7은 같은 회전 뒤 주 대각선 전치.
+ */
+public final class Symmetry {
+
+    public static final int ORIENTATIONS = 8;
+
+    // [방향][칸] → 변환 후 칸
+    private static final int[][] SQUARES = new int[ORIENTATIONS][Bitboard.SQUARES];
+
+    static {
+        for (int orientation = 0; orientation < ORIENTATIONS; orientation++) {
+            for (int square = 0; square < Bitboard.SQUARES; square++) {
+                SQUARES[orientation][square] = Long.numberOfTrailingZeros(transform(1L << square, orientation));
+            }
+        }
+    }
+
+    private Symmetry() {
+    }
+
+    public static long transform(long bits, int orientation) {
+        for (int i = 0; i < (orientation & 3); i++) {
+            bits = Bitboard.rotate90(bits);
+        }
+        return orientation >= 4 ? Bitboard.flipDiagonal(bits) : bits;
+    }
+
+    public static int transformSquare(int square, int orientation) {
+        return SQUARES[orientation][square];
+    }
+
+    /**
+     * 역변환 (회전은 반대 회전, 전치가 들어간 변환은 반사이므로 자기 자신)
+     */
+    public static int inverse(int orientation) {
+        return orientation < 4 ? (4 - orientation) & 3 : orientation;
+    }
+
+    /**
+     * 8가지 방향 중 (흑, 백) 마스크가 가장 작아지는 방향
+     */
+    public static int canonicalOrientation(long black, long white) {
+        int best = 0;
+        long bestBlack = black;
+        long bestWhite = white;
+        for (int orientation = 1; orientation < ORIENTATIONS; orientation++) {
+            long b = transform(black, orientation);
+            long w = transform(white, orientation);
+            if (b < bestBlack || (b == bestBlack && w < bestWhite)) {
+                best = orientation;
+                bestBlack = b;
+                bestWhite = w;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 정규화한 포지션의 Zobrist 키 (대칭인 포지션끼리 같은 값)
+     */
+    public static long canonicalKey(long black, long white, boolean blackToMove) {
+        return canonicalize(black, white).key(blackToMove);
+    }
+
+    public static Canonical canonicalize(long black, long white) {
+        int orientation = canonicalOrientation(black, white);
+        return new Canonical(transform(black, orientation), transform(white, orientation), orientation);
+    }
+
+    /**
+     * 정규화된 포지션 + 원래 보드에서 정규화 보드로 간 방향
+     */
+    public static final class Canonical {
+
+        private final long black;
+        private final long white;
+        private final int orientation;
+
+        private Canonical(long black, long white, int orientation) {
+            this.black = black;
+            this.white = white;
+            this.orientation = orientation;
+        }
+
+        public long getBlack() { return black; }
+        public long getWhite() { return white; }
+        public int getOrientation() { return orientation; }
+
+        public long key(boolean blackToMove) {
+            return Zobrist.hash(black, white, blackToMove);
+        }
+
+        /**
+         * 원래 보드의 칸 → 정규화 보드의 칸
+         */
+        public int toCanonical(int square) {
+            return transformSquare(square, orientation);
+        }
+
+        /**
+         * 정규화 보드의 칸 → 원래 보드의 칸
+         */
+        public int fromCanonical(int square) {
+            return transformSquare(square, inverse(orientation));
+        }
+    }
+}
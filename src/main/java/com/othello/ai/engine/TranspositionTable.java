@@ -0,0 +1,155 @@
+package com.othello.ai.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기(2의 거듭제곱) 트랜스포지션 테이블
+ * 엔트리 하나는 long 두 개로 [key ^ data, data] 형태로 저장한다. 읽을 때 두 값을 XOR 해서 키가 맞는지 확인하므로
+ * 여러 탐색 스레드가 잠금 없이 공유해도 찢어진 엔트리는 자연스럽게 미스로 처리된다.
+ *
+ * 세대는 요청 하나(루트 탐색)마다 탐색을 시작하는 쪽에서 한 번 올리고, 병렬 탐색의 보조 스레드는 올리지 않는다.
+ * 조회/저장 통계는 모든 탐색 스레드가 같은 카운터를 건드리므로 켰을 때만 센다.
+ *
+ * data 비트 배치: score(0-15) | move(16-22) | bound(23-24) | depth(25-32) | generation(33-40)
+ */
+public final class TranspositionTable {
+
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int NO_MOVE_BITS = 0x7F;
+    // long[] 길이(엔트리 수 * 2)가 int 범위를 넘지 않는 최대 엔트리 수 (8GB)
+    private static final int MAX_ENTRIES = 1 << 29;
+
+    private final long[] table;
+    private final long mask;
+
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final boolean statsEnabled;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public TranspositionTable(int sizeMb) {
+        this(sizeMb, false);
+    }
+
+    /**
+     * 주어진 메모리(MB) 안에 들어가는 가장 큰 2의 거듭제곱 개수만큼 엔트리를 할당 (최대 MAX_ENTRIES)
+     */
+    public TranspositionTable(int sizeMb, boolean statsEnabled) {
+        if (sizeMb <= 0) {
+            throw new IllegalArgumentException("Transposition table size must be positive: " + sizeMb + "MB");
+        }
+        long requested = Math.max(1L, (long) sizeMb * 1024 * 1024 / ENTRY_BYTES);
+        int entries = (int) Math.min(Long.highestOneBit(requested), MAX_ENTRIES);
+        this.table = new long[entries * 2];
+        this.mask = entries - 1;
+        this.statsEnabled = statsEnabled;
+    }
+
+    /**
+     * 새 요청의 탐색 시작 시 세대를 올려 이전 요청의 엔트리가 먼저 교체되도록 한다 (요청당 한 번)
+     */
+    public void newSearch() {
+        generation.updateAndGet(current -> (current + 1) & 0xFF);
+    }
+
+    /**
+     * 키에 해당하는 data를 반환 (없으면 0)
+     */
+    public long probe(long key) {
+        if (statsEnabled) {
+            probes.increment();
+        }
+        int index = (int) (key & mask) << 1;
+        long data = table[index + 1];
+        if (data != 0 && (table[index] ^ data) == key) {
+            if (statsEnabled) {
+                hits.increment();
+            }
+            return data;
+        }
+        return 0L;
+    }
+
+    /**
+     * 엔트리 저장 (같은 키, 이전 세대, 또는 같거나 더 깊은 탐색 결과일 때만 교체)
+     */
+    public void store(long key, int depth, int bound, int score, int move) {
+        int generation = this.generation.get();
+        int index = (int) (key & mask) << 1;
+        long old = table[index + 1];
+        if (old != 0 && (table[index] ^ old) != key
+                && generation(old) == generation && depth(old) > depth) {
+            return;
+        }
+
+        int clamped = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, score));
+        long data = (clamped & 0xFFFFL)
+                | ((long) (move < 0 ? NO_MOVE_BITS : move) << 16)
+                | ((long) bound << 23)
+                | ((long) Math.min(depth, 0xFF) << 25)
+                | ((long) generation << 33);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+        if (statsEnabled) {
+            stores.increment();
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    public static int score(long data) {
+        return (short) (data & 0xFFFF);
+    }
+
+    public static int move(long data) {
+        int move = (int) (data >>> 16) & 0x7F;
+        return move == NO_MOVE_BITS ? Searcher.NO_MOVE : move;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> 23) & 0x3;
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> 25) & 0xFF;
+    }
+
+    private static int generation(long data) {
+        return (int) (data >>> 33) & 0xFF;
+    }
+
+    public int getCapacity() {
+        return table.length / 2;
+    }
+
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public double getHitRate() {
+        long total = probes.sum();
+        return total == 0 ? 0.0 : (double) hits.sum() / total;
+    }
+}
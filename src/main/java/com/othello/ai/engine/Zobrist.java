@@ -0,0 +1,92 @@
+package com.othello.ai.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * 오셀로 포지션용 Zobrist 해시
+ * (흑 돌, 백 돌, 둘 차례)마다 64비트 키를 하나 만든다. 난수 시드가 고정되어 있어 재시작해도 같은 키가 나오므로
+ * 파일로 저장하는 오프닝 북 등에서도 키로 쓸 수 있다.
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x0DE110C0FFEEL;
+
+    private static final long[] BLACK_KEYS = new long[Bitboard.SQUARES];
+    private static final long[] WHITE_KEYS = new long[Bitboard.SQUARES];
+
+    // 바이트 단위 뒤집기 키 테이블: FLIP_TABLE[byteIndex][bits] = 해당 칸들의 (흑 키 ^ 백 키) 누적
+    private static final long[][] FLIP_TABLE = new long[8][256];
+
+    /**
+     * 백 차례일 때 XOR 되는 키
+     */
+    public static final long WHITE_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < Bitboard.SQUARES; i++) {
+            BLACK_KEYS[i] = random.nextLong();
+            WHITE_KEYS[i] = random.nextLong();
+        }
+        WHITE_TO_MOVE = random.nextLong();
+
+        for (int b = 0; b < 8; b++) {
+            for (int bits = 1; bits < 256; bits++) {
+                int low = Integer.numberOfTrailingZeros(bits);
+                int square = b * 8 + low;
+                FLIP_TABLE[b][bits] = FLIP_TABLE[b][bits & (bits - 1)] ^ BLACK_KEYS[square] ^ WHITE_KEYS[square];
+            }
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * 포지션 전체로부터 키 계산
+     */
+    public static long hash(long black, long white, boolean blackToMove) {
+        long key = blackToMove ? 0L : WHITE_TO_MOVE;
+        while (black != 0) {
+            key ^= BLACK_KEYS[Long.numberOfTrailingZeros(black)];
+            black &= black - 1;
+        }
+        while (white != 0) {
+            key ^= WHITE_KEYS[Long.numberOfTrailingZeros(white)];
+            white &= white - 1;
+        }
+        return key;
+    }
+
+    /**
+     * 한 칸에 돌을 놓을 때 XOR 할 키
+     */
+    public static long place(boolean black, int square) {
+        return black ? BLACK_KEYS[square] : WHITE_KEYS[square];
+    }
+
+    /**
+     * 뒤집힌 돌들(색이 바뀐 칸)에 대해 XOR 할 키 (바이트 테이블 8회 조회)
+     */
+    public static long flip(long flipped) {
+        long key = 0L;
+        for (int b = 0; flipped != 0; b++, flipped >>>= 8) {
+            key ^= FLIP_TABLE[b][(int) (flipped & 0xFF)];
+        }
+        return key;
+    }
+
+    /**
+     * 수를 둔 뒤의 키 (착수 + 뒤집기 + 차례 변경을 증분 반영)
+     */
+    public static long afterMove(long key, boolean blackMoved, int square, long flipped) {
+        return key ^ place(blackMoved, square) ^ flip(flipped) ^ WHITE_TO_MOVE;
+    }
+
+    /**
+     * 패스한 뒤의 키
+     */
+    public static long afterPass(long key) {
+        return key ^ WHITE_TO_MOVE;
+    }
+}
@@ -23,6 +23,15 @@ public class OthelloGameData {
     @Column(length = 10)
     private String winner; // 'B', 'W', 'draw' 또는 null
 
+    @Column
+    private Long version = 0L; // 상태가 바뀔 때마다 1씩 증가 (수, 새 게임). 기존 행은 null일 수 있음
+
+    @Column
+    private Integer lastMove; // 이 상태를 만든 수의 칸 (row * 8 + col), 수가 아닌 변경이면 null
+
+    @Column
+    private Long lastMoveBy; // 그 수를 둔 사용자
+
     public OthelloGameData() {}
 
     public OthelloGameData(GameRoom room, String boardState, String turn) {
@@ -41,5 +50,19 @@ public class OthelloGameData {
     public void setTurn(String turn) { this.turn = turn; }
     public String getWinner() { return winner; }
     public void setWinner(String winner) { this.winner = winner; }
+    public long getVersion() { return version != null ? version : 0L; }
+    public void setVersion(long version) { this.version = version; }
+    public Integer getLastMove() { return lastMove; }
+    public void setLastMove(Integer lastMove) { this.lastMove = lastMove; }
+    public Long getLastMoveBy() { return lastMoveBy; }
+    public void setLastMoveBy(Long lastMoveBy) { this.lastMoveBy = lastMoveBy; }
+
+    /**
+     * 수가 아닌 변경(새 게임, 연결 끊김 승리 등)으로 버전을 올릴 때 마지막 수 정보를 지움
+     */
+    public void clearLastMove() {
+        this.lastMove = null;
+        this.lastMoveBy = null;
+    }
 }
 
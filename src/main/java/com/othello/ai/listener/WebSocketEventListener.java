@@ -1,6 +1,7 @@
 package com.othello.ai.listener;
 
 import com.othello.ai.service.GameRoomService;
+import com.othello.ai.service.UserSessionRegistry;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
@@ -14,9 +15,11 @@ public class WebSocketEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketEventListener.class);
     private final GameRoomService gameRoomService;
+    private final UserSessionRegistry userSessionRegistry;
 
-    public WebSocketEventListener(GameRoomService gameRoomService) {
+    public WebSocketEventListener(GameRoomService gameRoomService, UserSessionRegistry userSessionRegistry) {
         this.gameRoomService = gameRoomService;
+        this.userSessionRegistry = userSessionRegistry;
     }
 
     @EventListener
@@ -24,6 +27,12 @@ public class WebSocketEventListener {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String userId = headerAccessor.getFirstNativeHeader("userId");
         if (userId != null) {
+            try {
+                userSessionRegistry.sessionOpened(Long.parseLong(userId), headerAccessor.getSessionId());
+            } catch (NumberFormatException e) {
+                log.error("Invalid userId in connect header: {}", userId);
+                return;
+            }
             headerAccessor.getSessionAttributes().put("userId", userId);
             log.info("WebSocket Session Connected for userId: {}", userId);
         }
@@ -38,7 +47,10 @@ public class WebSocketEventListener {
             try {
                 Long userId = Long.parseLong(userIdStr);
                 log.info("WebSocket Session Disconnected for userId: {}", userId);
-                gameRoomService.handleUserDisconnect(userId);
+                // 다른 탭 등 같은 사용자의 세션이 남아 있으면 방은 그대로 둠
+                if (userSessionRegistry.sessionClosed(userId, event.getSessionId())) {
+                    gameRoomService.handleUserDisconnect(userId);
+                }
             } catch (NumberFormatException e) {
                 log.error("Invalid userId in session: {}", userIdStr);
             }
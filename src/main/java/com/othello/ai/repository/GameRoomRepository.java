@@ -2,11 +2,21 @@ package com.othello.ai.repository;
 
 import com.othello.ai.entity.GameRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
     List<GameRoom> findByStatusOrderByCreatedAtDesc(GameRoom.RoomStatus status);
     List<GameRoom> findByStatus(GameRoom.RoomStatus status);
+
+    // 호스트를 함께 불러옴 (방마다 호스트 이름을 따로 조회하지 않도록)
+    @Query("select r from GameRoom r join fetch r.host where r.status = :status order by r.createdAt desc")
+    List<GameRoom> findWithHostByStatus(@Param("status") GameRoom.RoomStatus status);
+
+    // 사용자가 호스트나 게스트인 방 ID (host_id, guest_id 외래키 인덱스 사용)
+    @Query("select r.id from GameRoom r where r.host.id = :userId or r.guest.id = :userId")
+    List<Long> findIdsByParticipant(@Param("userId") Long userId);
 }
 
@@ -0,0 +1,173 @@
+package com.othello.ai.service;
+
+import com.othello.ai.client.CommentClient;
+import com.othello.ai.config.AIProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상황별로 미리 만들어 둔 AI 격려 멘트 풀
+ * 멘트는 좌표와 상관없이 상황(모서리, 초반, 후반, 그 밖)만 다르므로 상황별 큐에 묶음으로 채워 두고
+ * 수마다 하나씩 꺼내 쓴다 (한 번 쓴 멘트는 버림). 큐가 줄어들면 채우기 전용 단일 스레드에서
+ * 한 상황씩 다시 채운다 (수마다 만드는 멘트는 멘트 스레드 풀을 그대로 쓸 수 있도록).
+ */
+@Service
+public class AICommentPool {
+
+    private static final Logger log = LoggerFactory.getLogger(AICommentPool.class);
+
+    public enum Bucket {
+        CORNER("상대방이 모서리를 차지했습니다. 모서리를 잘 잡은 것을 칭찬해주세요."),
+        EARLY("게임 초반입니다. 이제 막 시작한 게임을 응원해주세요."),
+        LATE("게임 후반 접전입니다. 끝까지 집중하도록 격려해주세요."),
+        GENERIC("게임 중반입니다. 방금 둔 수를 칭찬하고 계속 잘하도록 격려해주세요.");
+
+        private final String situation;
+
+        Bucket(String situation) {
+            this.situation = situation;
+        }
+
+        /**
+         * 돌 개수와 둔 칸으로 상황 구분 (모서리 수가 가장 우선)
+         */
+        public static Bucket of(int totalPieces, int position) {
+            if (position == 0 || position == 7 || position == 56 || position == 63) {
+                return CORNER;
+            }
+            if (totalPieces < 10) {
+                return EARLY;
+            }
+            return totalPieces > 40 ? LATE : GENERIC;
+        }
+    }
+
+    private final CommentClient commentClient;
+    private final ThreadPoolExecutor aiCommentPoolExecutor;
+    private final AIProperties.Pool pool;
+    private final Map<Bucket, BlockingQueue<String>> comments = new EnumMap<>(Bucket.class);
+    private final Map<Bucket, AtomicBoolean> refilling = new EnumMap<>(Bucket.class);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AICommentPool(CommentClient commentClient, AIProperties properties,
+                         @Qualifier("aiCommentPoolExecutor") ThreadPoolExecutor aiCommentPoolExecutor) {
+        this.commentClient = commentClient;
+        this.aiCommentPoolExecutor = aiCommentPoolExecutor;
+        this.pool = properties.getComment().getPool();
+        for (Bucket bucket : Bucket.values()) {
+            comments.put(bucket, new ArrayBlockingQueue<>(Math.max(1, pool.getSize())));
+            refilling.put(bucket, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * 시작하면 모든 상황의 멘트를 미리 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillAll() {
+        for (Bucket bucket : Bucket.values()) {
+            refill(bucket);
+        }
+    }
+
+    /**
+     * 멘트 하나 꺼내기. 비어 있으면 빈 결과 (호출한 쪽에서 직접 생성하거나 기본 멘트 사용)
+     */
+    public Optional<String> draw(Bucket bucket) {
+        if (pool.getSize() <= 0) {
+            return Optional.empty();
+        }
+        BlockingQueue<String> queue = comments.get(bucket);
+        String comment = queue.poll();
+        if (queue.size() < pool.getLowWatermark()) {
+            refill(bucket);
+        }
+        if (comment == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(comment);
+    }
+
+    /**
+     * 채우는 중이 아니면 백그라운드 채우기 예약 (상황마다 하나만 예약, 실행은 전용 스레드에서 한 번에 하나)
+     */
+    private void refill(Bucket bucket) {
+        if (pool.getSize() <= 0) {
+            return;
+        }
+        AtomicBoolean running = refilling.get(bucket);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            aiCommentPoolExecutor.execute(() -> {
+                try {
+                    fill(bucket);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void fill(Bucket bucket) {
+        BlockingQueue<String> queue = comments.get(bucket);
+        String systemPrompt = "당신은 오셀로 게임을 가르치는 친절한 선생님입니다. " +
+                "아이가 둔 수를 격려하고 칭찬하는 짧은 멘트를 작성하세요. " +
+                "이름이나 '너', '당신' 같은 호칭은 사용하지 말고, 좌표도 언급하지 말고 자연스럽게 말하세요. " +
+                "멘트마다 표현을 다르게 하세요. " +
+                "응답은 반드시 JSON 형식: {\"comments\": [\"멘트1\", \"멘트2\", ...]} 로만 보내세요.";
+        String userPrompt = bucket.situation + " 서로 다른 멘트 " + pool.getBatchSize() + "개를 작성해주세요.";
+
+        // 응답이 짧게 와도 끝없이 호출하지 않도록 채울 양에 맞춰 호출 횟수 제한
+        int maxCalls = queue.remainingCapacity() / Math.max(1, pool.getBatchSize()) + 1;
+        for (int i = 0; i < maxCalls && queue.remainingCapacity() > 0; i++) {
+            Optional<List<String>> batch = commentClient.requestComments(systemPrompt, userPrompt);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (String comment : batch.get()) {
+                if (!queue.offer(comment)) {
+                    break;
+                }
+            }
+        }
+        log.debug("AI comment pool refilled: bucket={}, size={}", bucket, queue.size());
+    }
+
+    /**
+     * 상황별 남은 멘트 수, 적중/미스 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Bucket bucket : Bucket.values()) {
+            String name = bucket.name();
+            stats.put("commentPool" + name.charAt(0) + name.substring(1).toLowerCase(), comments.get(bucket).size());
+        }
+        stats.put("commentPoolHits", hits.sum());
+        stats.put("commentPoolMisses", misses.sum());
+        return stats;
+    }
+}
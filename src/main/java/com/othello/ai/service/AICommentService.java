@@ -0,0 +1,94 @@
+package com.othello.ai.service;
+
+import com.othello.ai.client.CommentClient;
+import com.othello.ai.config.AIProperties;
+import com.othello.ai.dto.AICommentDto;
+import com.othello.ai.dto.AIRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 격려 멘트 생성 (OpenAI GPT)
+ * 수 응답과 분리해 백그라운드에서 만들고 /topic/ai/comment/{requestId}로 보낸다.
+ * 시간 안에 못 만들거나, 실패하거나, 멘트 API 회로가 열려 있으면 기본 멘트를 보낸다.
+ */
+@Service
+public class AICommentService {
+
+    private static final Logger log = LoggerFactory.getLogger(AICommentService.class);
+
+    static final String COMMENT_TOPIC = "/topic/ai/comment/";
+    static final String FALLBACK_COMMENT = "좋은 수였어요! 계속 열심히 해봐요!";
+
+    private final CommentClient commentClient;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final AIProperties properties;
+    private final ThreadPoolExecutor aiCommentExecutor;
+
+    public AICommentService(CommentClient commentClient, SimpMessagingTemplate messagingTemplate,
+                            AIProperties properties,
+                            @Qualifier("aiCommentExecutor") ThreadPoolExecutor aiCommentExecutor) {
+        this.commentClient = commentClient;
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+        this.aiCommentExecutor = aiCommentExecutor;
+    }
+
+    /**
+     * 멘트를 백그라운드에서 만들어 요청 ID 토픽으로 전송 (호출은 바로 반환)
+     */
+    public void publishLater(String requestId, AIRequest request, int row, int col) {
+        CompletableFuture<String> comment;
+        try {
+            comment = CompletableFuture.supplyAsync(() -> generateComment(request, row, col), aiCommentExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("AI comment rejected: executor queue is full, sending fallback");
+            comment = CompletableFuture.completedFuture(FALLBACK_COMMENT);
+        }
+        comment.completeOnTimeout(FALLBACK_COMMENT, properties.getComment().getTimeoutMs(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> FALLBACK_COMMENT)
+                .thenAccept(text -> messagingTemplate.convertAndSend(COMMENT_TOPIC + requestId,
+                        new AICommentDto(requestId, text)));
+    }
+
+    /**
+     * OpenAI GPT로 격려 멘트 생성
+     */
+    private String generateComment(AIRequest request, int row, int col) {
+        String systemPrompt = "당신은 오셀로 게임을 가르치는 친절한 선생님입니다. " +
+                "격려하고 칭찬하는 멘트를 작성하세요. " +
+                "**중요: 이름(" + request.getUserName() + ")을 부르는 것은 절대 금지입니다. 이름 없이 자연스럽게 격려하세요.** " +
+                "예: '이 수 정말 좋은데? 나도 집중해야겠어요!' 또는 '좋은 선택이에요! 계속 잘하고 있어요!' " +
+                "이름을 언급하지 말고, '너', '당신' 같은 호칭도 사용하지 말고, 그냥 자연스럽게 말하세요. " +
+                "응답은 반드시 JSON 형식: {\"comment\": \"멘트\"} 로만 보내세요.";
+
+        String userPrompt = "현재 오셀로 보드 상태에서 상대방이 (" + row + ", " + col + ") 위치에 돌을 두었습니다. " +
+                "이 수에 대한 친절한 격려 멘트를 작성해주세요. " +
+                "**절대 이름을 언급하지 마세요. 이름 없이 자연스럽게 격려하세요.**";
+
+        return commentClient.requestComment(systemPrompt, userPrompt).orElse(FALLBACK_COMMENT);
+    }
+
+    /**
+     * 멘트 API 호출 통계 (회로 상태, 실패/거절 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("commentCircuit", commentClient.getCircuitState());
+        stats.put("commentCalls", commentClient.getCalls());
+        stats.put("commentFailures", commentClient.getFailures());
+        stats.put("commentRejected", commentClient.getRejected());
+        stats.put("commentShortCircuited", commentClient.getShortCircuited());
+        return stats;
+    }
+}
@@ -1,5 +1,6 @@
 package com.othello.ai.service;
 
+import com.othello.ai.config.GameProperties;
 import com.othello.ai.dto.GameStateDto;
 import com.othello.ai.dto.RoomDto;
 import com.othello.ai.entity.GameHistory;
@@ -13,6 +14,7 @@ import com.othello.ai.repository.UserRepository;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +22,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 public class GameRoomService {
@@ -33,23 +36,45 @@ public class GameRoomService {
     private final GameHistoryRepository gameHistoryRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final OthelloGameEngine othelloEngine;
+    private final GameStateStore gameStateStore;
+    private final TransactionTemplate transactionTemplate;
+    // 같은 방의 수 처리/상태 변경은 한 번에 하나씩 (트랜잭션은 락 안에서 커밋까지 끝냄)
+    private final RoomLocks roomLocks;
+    private final UserSessionRegistry userSessionRegistry;
+    private final LobbyService lobbyService;
 
     public GameRoomService(GameRoomRepository gameRoomRepository, 
                           OthelloGameDataRepository othelloGameDataRepository, 
                           UserRepository userRepository, 
                           GameHistoryRepository gameHistoryRepository, 
                           SimpMessagingTemplate messagingTemplate,
-                          OthelloGameEngine othelloEngine) {
+                          OthelloGameEngine othelloEngine,
+                          GameStateStore gameStateStore,
+                          TransactionTemplate transactionTemplate,
+                          GameProperties gameProperties,
+                          UserSessionRegistry userSessionRegistry,
+                          LobbyService lobbyService) {
         this.gameRoomRepository = gameRoomRepository;
         this.othelloGameDataRepository = othelloGameDataRepository;
         this.userRepository = userRepository;
         this.gameHistoryRepository = gameHistoryRepository;
         this.messagingTemplate = messagingTemplate;
         this.othelloEngine = othelloEngine;
+        this.gameStateStore = gameStateStore;
+        this.transactionTemplate = transactionTemplate;
+        this.roomLocks = new RoomLocks(gameProperties.getRoomLockStripes());
+        this.userSessionRegistry = userSessionRegistry;
+        this.lobbyService = lobbyService;
     }
 
-    @Transactional
     public GameRoom createRoom(Long hostId) {
+        GameRoom room = transactionTemplate.execute(status -> createRoomInTransaction(hostId));
+        // 커밋 뒤에 등록 (DB에서 목록을 불러오는 중이면 끝난 뒤 더해짐)
+        userSessionRegistry.addRoom(hostId, room.getId());
+        return room;
+    }
+
+    private GameRoom createRoomInTransaction(Long hostId) {
         User host = userRepository.findById(hostId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -64,12 +89,20 @@ public class GameRoomService {
         String initialBoardState = othelloEngine.getInitialBoardState();
         OthelloGameData othelloData = new OthelloGameData(savedRoom, initialBoardState, "B"); // 흑이 먼저 시작
         othelloGameDataRepository.save(othelloData);
+        lobbyService.roomChanged(savedRoom);
 
         return savedRoom;
     }
 
-    @Transactional
     public void deleteRoom(Long roomId, Long userId) {
+        roomLocks.run(roomId, () -> {
+            transactionTemplate.executeWithoutResult(status -> deleteRoomLocked(roomId, userId));
+            // 게스트 쪽 목록은 연결 끊김 처리 때 DB로 확인하고 뺀다
+            userSessionRegistry.removeRoom(userId, roomId);
+        });
+    }
+
+    private void deleteRoomLocked(Long roomId, Long userId) {
         GameRoom room = gameRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
@@ -78,57 +111,78 @@ public class GameRoomService {
             throw new IllegalStateException("Only the host can delete the room");
         }
 
+        gameStateStore.evict(roomId);
+
         // OthelloGameData 먼저 삭제 (외래키 제약조건)
         othelloGameDataRepository.findByRoom(room).ifPresent(othelloGameDataRepository::delete);
 
         // GameRoom 삭제
         gameRoomRepository.delete(room);
+        lobbyService.roomDeleted(roomId);
         
         log.info("Room {} deleted by host {}", roomId, userId);
     }
 
-    @Transactional
+    /**
+     * 사용자의 마지막 세션이 끊겼을 때 그 사용자가 참여한 방만 처리 (UserSessionRegistry, 없으면 DB에서 조회).
+     * 방마다 방 락 안에서 따로 트랜잭션을 커밋하므로, 한 방의 실패나 대기가 다른 방 처리에 번지지 않는다.
+     */
     public void handleUserDisconnect(Long userId) {
-        List<GameRoom> allRooms = gameRoomRepository.findAll();
-        for (GameRoom room : allRooms) {
-            boolean isHost = room.getHost().getId().equals(userId);
-            boolean isGuest = room.getGuest() != null && room.getGuest().getId().equals(userId);
-            
-            if (!isHost && !isGuest) continue;
-
-            if (room.getStatus() == GameRoom.RoomStatus.PLAYING) {
-                processDisconnectWin(room, isHost);
-            } else if (room.getStatus() == GameRoom.RoomStatus.WAITING) {
-                if (isHost) {
-                    // WAITING 상태의 방에서 호스트가 나가면 방 삭제
+        Set<Long> roomIds = userSessionRegistry.getRooms(userId, () -> gameRoomRepository.findIdsByParticipant(userId));
+        for (Long roomId : roomIds) {
+            try {
+                roomLocks.run(roomId, () -> transactionTemplate.executeWithoutResult(
+                        status -> handleRoomDisconnect(roomId, userId)));
+            } catch (Exception e) {
+                log.error("Error handling disconnect of user {} in room {}", userId, roomId, e);
+            }
+        }
+        userSessionRegistry.release(userId);
+    }
+
+    private void handleRoomDisconnect(Long roomId, Long userId) {
+        GameRoom room = gameRoomRepository.findById(roomId).orElse(null);
+        boolean isHost = room != null && room.getHost().getId().equals(userId);
+        boolean isGuest = room != null && room.getGuest() != null && room.getGuest().getId().equals(userId);
+
+        // 이미 없어졌거나 나간 방은 목록에서 뺌
+        if (!isHost && !isGuest) {
+            userSessionRegistry.removeRoom(userId, roomId);
+            return;
+        }
+
+        if (room.getStatus() == GameRoom.RoomStatus.PLAYING) {
+            processDisconnectWin(room, isHost);
+        } else if (room.getStatus() == GameRoom.RoomStatus.WAITING) {
+            if (isHost) {
+                // WAITING 상태의 방에서 호스트가 나가면 방 삭제
+                try {
+                    deleteRoomLocked(room.getId(), userId);
+                    log.info("Waiting room {} deleted because host {} disconnected", room.getId(), userId);
+                } catch (Exception e) {
+                    log.error("Error deleting room {} when host {} disconnected", room.getId(), userId, e);
+                }
+            }
+        } else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
+            if (isGuest) {
+                room.setGuest(null);
+                gameRoomRepository.save(room);
+                log.info("Guest {} left finished room {}", userId, room.getId());
+            } else if (isHost) {
+                // FINISHED 상태의 방에서 호스트가 나가고 게스트가 없으면 방 삭제
+                if (room.getGuest() == null) {
                     try {
-                        deleteRoom(room.getId(), userId);
-                        log.info("Waiting room {} deleted because host {} disconnected", room.getId(), userId);
+                        deleteRoomLocked(room.getId(), userId);
+                        log.info("Finished room {} deleted because host {} disconnected and no guest", room.getId(), userId);
                     } catch (Exception e) {
                         log.error("Error deleting room {} when host {} disconnected", room.getId(), userId, e);
                     }
-                }
-            } else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
-                if (isGuest) {
-                    room.setGuest(null);
-                    gameRoomRepository.save(room);
-                    log.info("Guest {} left finished room {}", userId, room.getId());
-                } else if (isHost) {
-                    // FINISHED 상태의 방에서 호스트가 나가고 게스트가 없으면 방 삭제
-                    if (room.getGuest() == null) {
-                        try {
-                            deleteRoom(room.getId(), userId);
-                            log.info("Finished room {} deleted because host {} disconnected and no guest", room.getId(), userId);
-                        } catch (Exception e) {
-                            log.error("Error deleting room {} when host {} disconnected", room.getId(), userId, e);
-                        }
-                    } else {
-                        log.info("Host {} left finished room {}", userId, room.getId());
-                        Map<String, Object> notification = new HashMap<>();
-                        notification.put("status", "FINISHED");
-                        notification.put("message", "방장이 나갔습니다. 방이 닫힙니다.");
-                        messagingTemplate.convertAndSend("/topic/game/" + room.getId(), notification);
-                    }
+                } else {
+                    log.info("Host {} left finished room {}", userId, room.getId());
+                    Map<String, Object> notification = new HashMap<>();
+                    notification.put("status", "FINISHED");
+                    notification.put("message", "방장이 나갔습니다. 방이 닫힙니다.");
+                    messagingTemplate.convertAndSend("/topic/game/" + room.getId(), notification);
                 }
             }
         }
@@ -144,6 +198,9 @@ public class GameRoomService {
         
         room.setStatus(GameRoom.RoomStatus.FINISHED);
         
+        // 메모리의 진행 중 게임을 내리고, 아직 DB에 쓰지 않은 마지막 보드를 반영
+        LiveGame liveGame = gameStateStore.evict(room.getId());
+        
         // OthelloGameData 업데이트 (없으면 생성)
         OthelloGameData othelloData = othelloGameDataRepository.findByRoom(room)
                 .orElseGet(() -> {
@@ -151,6 +208,14 @@ public class GameRoomService {
                     OthelloGameData newData = new OthelloGameData(room, initialBoardState, "B");
                     return othelloGameDataRepository.save(newData);
                 });
+        long version = othelloData.getVersion();
+        if (liveGame != null) {
+            othelloData.setBoardState(liveGame.getState().getBoardState());
+            othelloData.setTurn(liveGame.getState().getTurn());
+            version = Math.max(version, liveGame.getState().getVersion());
+        }
+        othelloData.setVersion(version + 1);
+        othelloData.clearLastMove();
         othelloData.setWinner(winner);
         othelloGameDataRepository.save(othelloData);
         
@@ -174,6 +239,7 @@ public class GameRoomService {
         notification.put("winner", winner);
         notification.put("hostName", gameState.getHostName());
         notification.put("guestName", gameState.getGuestName());
+        notification.put("version", gameState.getVersion());
         notification.put("message", loserName + "님이 나갔습니다. " + winnerName + "님이 승리했습니다!");
         
         messagingTemplate.convertAndSend("/topic/game/" + room.getId(), notification);
@@ -193,20 +259,23 @@ public class GameRoomService {
         log.info("Saved game history for user {}: {}", user.getName(), result);
     }
 
+    /**
+     * 대기방 목록 (DB 조회 없이 로비 캐시에서)
+     */
     public List<RoomDto> getWaitingRooms() {
-        return gameRoomRepository.findByStatusOrderByCreatedAtDesc(GameRoom.RoomStatus.WAITING)
-                .stream()
-                .map(room -> new RoomDto(
-                        room.getId(),
-                        room.getHost().getName(),
-                        room.getStatus().name(),
-                        room.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+        return lobbyService.getSnapshot().getRooms();
     }
 
-    @Transactional
     public GameRoom joinRoom(Long roomId, Long guestId) {
+        // 두 사람이 동시에 들어와도 한 명만 게스트가 되도록 방 단위로 직렬화
+        return roomLocks.call(roomId, () -> {
+            GameRoom room = transactionTemplate.execute(status -> joinRoomLocked(roomId, guestId));
+            userSessionRegistry.addRoom(guestId, roomId);
+            return room;
+        });
+    }
+
+    private GameRoom joinRoomLocked(Long roomId, Long guestId) {
         GameRoom room = gameRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
@@ -226,6 +295,7 @@ public class GameRoomService {
         room.setStartedAt(LocalDateTime.now());
 
         GameRoom savedRoom = gameRoomRepository.save(room);
+        lobbyService.roomChanged(savedRoom);
         
         GameStateDto gameState = getGameState(roomId);
         Map<String, Object> notification = new HashMap<>();
@@ -238,6 +308,7 @@ public class GameRoomService {
         notification.put("guestName", gameState.getGuestName());
         notification.put("blackCount", gameState.getBlackCount());
         notification.put("whiteCount", gameState.getWhiteCount());
+        notification.put("version", gameState.getVersion());
         notification.put("message", guest.getName() + "님이 게임에 참여했습니다! 게임을 시작합니다.");
         
         messagingTemplate.convertAndSend("/topic/game/" + roomId, notification);
@@ -245,81 +316,202 @@ public class GameRoomService {
         return savedRoom;
     }
 
-    @Transactional
-    public GameStateDto makeMove(Long roomId, Integer row, Integer col, String boardState, String turn, Long userId) {
-        GameRoom room = gameRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+    /**
+     * 수 처리. 진행 중인 게임은 메모리(GameStateStore)에서 검증/적용하고 DB에는 나중에 모아 쓴다.
+     * 게임이 끝나는 수만 바로 DB에 반영한다 (방 상태, 승자, 전적).
+     * 같은 방의 수는 방 락으로 직렬화해 검증과 적용 사이에 다른 수가 끼어들지 않는다.
+     * expectedVersion(수를 두기 전 버전)이 현재와 다르면 적용하지 않고 현재 상태를 돌려준다 (checkVersion).
+     * 이미 끝난 게임도 마찬가지라서, 게임을 끝낸 수의 재전송에는 끝난 상태(FINISHED, 승자)를 돌려준다.
+     */
+    public GameStateDto makeMove(Long roomId, Integer row, Integer col, String boardState, String turn,
+                                 Long expectedVersion, Long userId) {
+        // 메모리에 있는 게임이면 락 없이 먼저 버전 확인 (지난 수/재전송은 락을 기다리지 않고 처리)
+        if (expectedVersion != null) {
+            LiveGame cached = gameStateStore.peek(roomId);
+            if (cached != null) {
+                LiveGame.State state = cached.getState();
+                GameStateDto current = checkVersion(roomId, state, expectedVersion, row, col, userId,
+                        () -> toGameState(cached, state, GameRoom.RoomStatus.PLAYING, null));
+                // 확인하는 사이 게임이 끝나 내려졌으면 그 상태는 지난 것이므로 락 안에서 다시 확인
+                if (current != null && gameStateStore.peek(roomId) == cached) {
+                    return current;
+                }
+            }
+        }
+        return roomLocks.call(roomId, () -> makeMoveLocked(roomId, row, col, expectedVersion, userId));
+    }
 
-        if (room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+    private GameStateDto makeMoveLocked(Long roomId, Integer row, Integer col, Long expectedVersion, Long userId) {
+        LiveGame game = gameStateStore.get(roomId);
+        if (game == null) {
+            if (expectedVersion != null) {
+                GameStateDto finished = transactionTemplate.execute(
+                        status -> checkFinishedVersion(roomId, expectedVersion, row, col, userId));
+                if (finished != null) {
+                    return finished;
+                }
+            }
+            if (!gameRoomRepository.existsById(roomId)) {
+                throw new IllegalArgumentException("Room not found");
+            }
             throw new IllegalStateException("Game is not in progress");
         }
 
-        // OthelloGameData 조회
-        OthelloGameData othelloData = othelloGameDataRepository.findByRoom(room)
-                .orElseThrow(() -> new IllegalStateException("OthelloGameData not found for room " + roomId));
+        LiveGame.State state = game.getState();
+        if (expectedVersion != null) {
+            GameStateDto current = checkVersion(roomId, state, expectedVersion, row, col, userId,
+                    () -> toGameState(game, state, GameRoom.RoomStatus.PLAYING, null));
+            if (current != null) {
+                return current;
+            }
+        }
 
         // 차례 확인
-        String currentTurn = othelloData.getTurn();
+        String currentTurn = state.getTurn();
         char currentPlayer = currentTurn.charAt(0);
         
         // 유효한 수인지 확인
-        if (!othelloEngine.isValidMove(othelloData.getBoardState(), row, col, currentPlayer)) {
+        if (!othelloEngine.isValidMove(state.getBoardState(), row, col, currentPlayer)) {
             throw new IllegalStateException("Invalid move");
         }
         
         // 호스트는 흑(B), 게스트는 백(W)
-        boolean isHostTurn = currentTurn.equals("B") && room.getHost().getId().equals(userId);
-        boolean isGuestTurn = currentTurn.equals("W") && room.getGuest() != null && room.getGuest().getId().equals(userId);
+        boolean isHostTurn = currentTurn.equals("B") && game.getHostId().equals(userId);
+        boolean isGuestTurn = currentTurn.equals("W") && game.getGuestId() != null && game.getGuestId().equals(userId);
 
         if (!isHostTurn && !isGuestTurn) {
             throw new IllegalStateException("Not your turn");
         }
 
         // 수 실행
-        String newBoardState = othelloEngine.makeMove(othelloData.getBoardState(), row, col, currentPlayer);
+        String newBoardState = othelloEngine.makeMove(state.getBoardState(), row, col, currentPlayer);
         
         // 다음 차례 결정 (상대방이 수를 둘 수 없으면 차례 유지)
         char nextPlayer = (currentPlayer == OthelloGameEngine.BLACK) ? OthelloGameEngine.WHITE : OthelloGameEngine.BLACK;
         List<int[]> nextValidMoves = othelloEngine.getValidMoves(newBoardState, nextPlayer);
         
         String nextTurn = nextValidMoves.isEmpty() ? currentTurn : (nextPlayer == OthelloGameEngine.BLACK ? "B" : "W");
+        LiveGame.State nextState = new LiveGame.State(newBoardState, nextTurn, state.getVersion() + 1,
+                row * 8 + col, userId);
         
         // 게임 종료 확인
-        boolean isGameOver = othelloEngine.isGameOver(newBoardState);
-        String winner = null;
-        if (isGameOver) {
-            winner = othelloEngine.getWinner(newBoardState);
-            room.setStatus(GameRoom.RoomStatus.FINISHED);
-            
-            // 게임 기록 저장
-            String winnerName = winner.equals("B") ? room.getHost().getName() : 
-                               (winner.equals("W") ? room.getGuest().getName() : "무승부");
-            String loserName = winner.equals("B") ? room.getGuest().getName() : 
-                              (winner.equals("W") ? room.getHost().getName() : "무승부");
-            
-            if (!winner.equals("draw")) {
-                saveGameHistory(winner.equals("B") ? room.getHost() : room.getGuest(), 
-                              GameHistory.GameResult.WIN, loserName, GameHistory.GameType.OTHELLO);
-                saveGameHistory(winner.equals("B") ? room.getGuest() : room.getHost(), 
-                              GameHistory.GameResult.LOSS, winnerName, GameHistory.GameType.OTHELLO);
-            } else {
-                saveGameHistory(room.getHost(), GameHistory.GameResult.DRAW, loserName, GameHistory.GameType.OTHELLO);
-                saveGameHistory(room.getGuest(), GameHistory.GameResult.DRAW, winnerName, GameHistory.GameType.OTHELLO);
-            }
-            
-            othelloData.setWinner(winner);
+        if (othelloEngine.isGameOver(newBoardState)) {
+            String winner = othelloEngine.getWinner(newBoardState);
+            transactionTemplate.executeWithoutResult(status -> finishGame(roomId, nextState, winner));
+            return toGameState(game, nextState, GameRoom.RoomStatus.FINISHED, winner);
+        }
+        
+        gameStateStore.update(game, nextState);
+        return toGameState(game, nextState, GameRoom.RoomStatus.PLAYING, null);
+    }
+
+    /**
+     * 클라이언트가 본 버전과 현재 버전 비교. 같으면 null (수 적용).
+     * 다르면 수를 적용하지 않고 현재 상태(current)를 돌려준다: 방금 적용된 같은 수의 재전송이면 그 결과 그대로,
+     * 그 밖의 지난 수(충돌)면 최신 상태로 클라이언트를 맞춘다.
+     */
+    private GameStateDto checkVersion(Long roomId, LiveGame.State state, long expectedVersion,
+                                      Integer row, Integer col, Long userId, Supplier<GameStateDto> current) {
+        if (state.getVersion() == expectedVersion) {
+            return null;
+        }
+        if (row != null && col != null && state.isResultOf(expectedVersion, row * 8 + col, userId)) {
+            log.debug("Duplicate move ignored: room={}, version={}", roomId, expectedVersion);
+        } else {
+            log.debug("Stale move rejected: room={}, expected={}, current={}",
+                    roomId, expectedVersion, state.getVersion());
+        }
+        return current.get();
+    }
+
+    /**
+     * 메모리에 없는(끝난) 게임의 버전 확인. 끝난 방이고 버전이 다르면 끝난 상태를 돌려주고,
+     * 진행 중이 아니거나 버전이 같으면(끝난 게임에 새로 두는 수) null.
+     */
+    private GameStateDto checkFinishedVersion(Long roomId, long expectedVersion, Integer row, Integer col, Long userId) {
+        GameRoom room = gameRoomRepository.findById(roomId).orElse(null);
+        if (room == null || room.getStatus() != GameRoom.RoomStatus.FINISHED) {
+            return null;
+        }
+        OthelloGameData data = othelloGameDataRepository.findByRoom(room).orElse(null);
+        if (data == null) {
+            return null;
+        }
+        return checkVersion(roomId, LiveGame.State.of(data), expectedVersion, row, col, userId,
+                () -> getGameState(roomId));
+    }
+
+    /**
+     * 게임 종료: 메모리에서 내리고 마지막 보드, 승자, 방 상태, 전적을 DB에 저장
+     */
+    private void finishGame(Long roomId, LiveGame.State finalState, String winner) {
+        gameStateStore.evict(roomId);
+        
+        GameRoom room = gameRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        room.setStatus(GameRoom.RoomStatus.FINISHED);
+        
+        // 게임 기록 저장
+        String winnerName = winner.equals("B") ? room.getHost().getName() : 
+                           (winner.equals("W") ? room.getGuest().getName() : "무승부");
+        String loserName = winner.equals("B") ? room.getGuest().getName() : 
+                          (winner.equals("W") ? room.getHost().getName() : "무승부");
+        
+        if (!winner.equals("draw")) {
+            saveGameHistory(winner.equals("B") ? room.getHost() : room.getGuest(), 
+                          GameHistory.GameResult.WIN, loserName, GameHistory.GameType.OTHELLO);
+            saveGameHistory(winner.equals("B") ? room.getGuest() : room.getHost(), 
+                          GameHistory.GameResult.LOSS, winnerName, GameHistory.GameType.OTHELLO);
+        } else {
+            saveGameHistory(room.getHost(), GameHistory.GameResult.DRAW, loserName, GameHistory.GameType.OTHELLO);
+            saveGameHistory(room.getGuest(), GameHistory.GameResult.DRAW, winnerName, GameHistory.GameType.OTHELLO);
         }
         
-        // 보드 상태와 차례 업데이트
-        othelloData.setBoardState(newBoardState);
-        othelloData.setTurn(nextTurn);
+        OthelloGameData othelloData = othelloGameDataRepository.findByRoom(room)
+                .orElseThrow(() -> new IllegalStateException("OthelloGameData not found for room " + roomId));
+        othelloData.setBoardState(finalState.getBoardState());
+        othelloData.setTurn(finalState.getTurn());
+        othelloData.setVersion(finalState.getVersion());
+        othelloData.setLastMove(finalState.getLastMove());
+        othelloData.setLastMoveBy(finalState.getLastMoveBy());
+        othelloData.setWinner(winner);
         othelloGameDataRepository.save(othelloData);
         gameRoomRepository.save(room);
+    }
 
-        return getGameState(roomId);
+    /**
+     * 메모리의 게임으로 상태 DTO 생성 (DB 조회 없음)
+     */
+    private GameStateDto toGameState(LiveGame game, LiveGame.State state, GameRoom.RoomStatus status, String winner) {
+        int[] counts = othelloEngine.countPieces(state.getBoardState());
+        
+        GameStateDto gameState = new GameStateDto(
+                state.getBoardState(),
+                state.getTurn(),
+                status.name(),
+                status == GameRoom.RoomStatus.FINISHED,
+                winner,
+                game.getHostName(),
+                game.getGuestName()
+        );
+        gameState.setBlackCount(counts[0]);
+        gameState.setWhiteCount(counts[1]);
+        gameState.setVersion(state.getVersion());
+        
+        return gameState;
     }
 
+    /**
+     * 게임 상태 조회 (락 없음). 메모리에 있는 진행 중 게임은 메모리에서, 없으면 DB에서 읽는다.
+     * 메모리에 올리는 것은 방 락 안의 수 처리만 하므로 여기서는 peek만 쓴다.
+     */
     public GameStateDto getGameState(Long roomId) {
+        // 진행 중인 게임은 메모리에서
+        LiveGame game = gameStateStore.peek(roomId);
+        if (game != null) {
+            return toGameState(game, game.getState(), GameRoom.RoomStatus.PLAYING, null);
+        }
+        
         GameRoom room = gameRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
@@ -346,12 +538,20 @@ public class GameRoomService {
         );
         gameState.setBlackCount(counts[0]);
         gameState.setWhiteCount(counts[1]);
+        gameState.setVersion(othelloData.getVersion());
         
         return gameState;
     }
 
-    @Transactional
     public void updateGameState(Long roomId, String boardState, String turn, boolean isGameOver, String winner, String status) {
+        roomLocks.run(roomId, () -> transactionTemplate.executeWithoutResult(tx ->
+                updateGameStateLocked(roomId, boardState, turn, isGameOver, winner, status)));
+    }
+
+    private void updateGameStateLocked(Long roomId, String boardState, String turn, boolean isGameOver, String winner, String status) {
+        // DB를 직접 바꾸므로 메모리의 게임은 내림 (다음 조회 때 다시 불러옴)
+        LiveGame liveGame = gameStateStore.evict(roomId);
+        
         GameRoom room = gameRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
@@ -365,6 +565,11 @@ public class GameRoomService {
 
         othelloData.setBoardState(boardState);
         othelloData.setTurn(turn);
+        // 아직 DB에 쓰지 않은 메모리 버전보다도 커야 이전 상태를 본 클라이언트의 수가 충돌로 걸린다
+        long version = liveGame != null ? Math.max(liveGame.getState().getVersion(), othelloData.getVersion())
+                : othelloData.getVersion();
+        othelloData.setVersion(version + 1);
+        othelloData.clearLastMove();
 
         if (isGameOver) {
             room.setStatus(GameRoom.RoomStatus.FINISHED);
@@ -402,6 +607,7 @@ public class GameRoomService {
 
         othelloGameDataRepository.save(othelloData);
         gameRoomRepository.save(room);
+        lobbyService.roomChanged(room);
     }
 
     @Transactional
@@ -458,6 +664,7 @@ public class GameRoomService {
         );
         nudgeState.setBlackCount(gameState.getBlackCount());
         nudgeState.setWhiteCount(gameState.getWhiteCount());
+        nudgeState.setVersion(gameState.getVersion());
 
         log.info("Nudge message created for room {}: {}", roomId, selectedMessage);
         
@@ -493,6 +700,7 @@ public class GameRoomService {
         );
         voiceState.setBlackCount(gameState.getBlackCount());
         voiceState.setWhiteCount(gameState.getWhiteCount());
+        voiceState.setVersion(gameState.getVersion());
         
         log.info("Voice message created for room {}: {}", roomId, message);
         return voiceState;
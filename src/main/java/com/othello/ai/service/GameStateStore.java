@@ -0,0 +1,208 @@
+package com.othello.ai.service;
+
+import com.othello.ai.config.GameProperties;
+import com.othello.ai.entity.GameRoom;
+import com.othello.ai.entity.OthelloGameData;
+import com.othello.ai.repository.GameRoomRepository;
+import com.othello.ai.repository.OthelloGameDataRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중(PLAYING) 게임 상태의 메모리 저장소
+ * 수 처리와 상태 조회는 메모리에서 하고, 바뀐 방은 표시해 두었다가 주기적으로 한 트랜잭션에 모아 DB에 쓴다 (write-behind).
+ * 메모리에 없는 방은 DB에서 불러오며, PLAYING이 아닌 방은 올리지 않는다.
+ * 불러와서 올리는 것(get)과 내리는 것(evict)은 모두 그 방의 락(RoomLocks) 안에서만 한다.
+ * 락 없이 읽는 쪽은 peek으로 메모리에 있는 게임만 보고, 없으면 DB를 직접 읽는다 (올리지 않음).
+ */
+@Service
+public class GameStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStateStore.class);
+
+    private final GameRoomRepository gameRoomRepository;
+    private final OthelloGameDataRepository othelloGameDataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GameProperties.State properties;
+
+    private final ConcurrentHashMap<Long, LiveGame> games = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher;
+
+    public GameStateStore(GameRoomRepository gameRoomRepository, OthelloGameDataRepository othelloGameDataRepository,
+                          TransactionTemplate transactionTemplate, GameProperties gameProperties) {
+        this.gameRoomRepository = gameRoomRepository;
+        this.othelloGameDataRepository = othelloGameDataRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = gameProperties.getState();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-state-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushIntervalMs();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행 중인 게임 (메모리에 없으면 DB에서 불러와 올림). PLAYING이 아니거나 방이 없으면 null.
+     * 반드시 방 락 안에서 호출한다. 락 밖에서 불러오면 같은 방을 끝내며 내린 직후 이전 PLAYING 상태를 다시 올릴 수 있다.
+     */
+    public LiveGame get(Long roomId) {
+        LiveGame game = games.get(roomId);
+        if (game != null) {
+            return game;
+        }
+        LiveGame loaded = transactionTemplate.execute(status -> load(roomId));
+        if (loaded == null) {
+            return null;
+        }
+        // 동시에 불러왔으면 먼저 올라간 쪽 사용
+        LiveGame existing = games.putIfAbsent(roomId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private LiveGame load(Long roomId) {
+        GameRoom room = gameRoomRepository.findById(roomId).orElse(null);
+        if (room == null || room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+            return null;
+        }
+        OthelloGameData data = othelloGameDataRepository.findByRoom(room).orElse(null);
+        if (data == null) {
+            return null;
+        }
+        log.debug("Loaded live game for room {}", roomId);
+        return new LiveGame(roomId, data.getId(),
+                room.getHost().getId(), room.getHost().getName(),
+                room.getGuest() != null ? room.getGuest().getId() : null,
+                room.getGuest() != null ? room.getGuest().getName() : null,
+                LiveGame.State.of(data));
+    }
+
+    /**
+     * 메모리에 있는 게임만 (DB에서 불러오지 않음, 없으면 null). 락 없이 빠르게 확인할 때 사용.
+     */
+    public LiveGame peek(Long roomId) {
+        return games.get(roomId);
+    }
+
+    /**
+     * 상태 변경 (DB에는 다음 flush 때 반영)
+     */
+    public void update(LiveGame game, LiveGame.State state) {
+        game.setState(state);
+        dirty.add(game.getRoomId());
+    }
+
+    /**
+     * 메모리에서 내림 (아직 쓰지 않은 변경은 버림). 방 상태/플레이어가 DB에서 직접 바뀔 때 먼저 호출한다.
+     * 반환값: 내린 게임 (없었으면 null) - 마지막 보드가 필요하면 호출한 쪽에서 DB에 반영
+     * 진행 중인 flush가 끝난 뒤 내리므로, 그 뒤 호출한 쪽이 DB에 쓴 값을 이전 상태로 덮어쓰지 않는다.
+     * 트랜잭션 안에서 내렸는데 롤백되면 내린 게임을 다시 올린다 (DB는 그대로이므로 메모리의 최신 보드를 잃지 않도록).
+     * 커밋은 호출한 쪽의 방 락 안에서 끝나므로, 커밋 전에 다른 요청이 이전 PLAYING 상태를 다시 불러올 수 없다.
+     */
+    public LiveGame evict(Long roomId) {
+        LiveGame evicted;
+        synchronized (this) {
+            dirty.remove(roomId);
+            evicted = games.remove(roomId);
+        }
+        if (evicted != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(evicted);
+                    }
+                }
+            });
+        }
+        return evicted;
+    }
+
+    private synchronized void restore(LiveGame game) {
+        if (games.putIfAbsent(game.getRoomId(), game) == null) {
+            dirty.add(game.getRoomId());
+            log.debug("Restored live game for room {} after rollback", game.getRoomId());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush live game states", e);
+        }
+    }
+
+    /**
+     * 바뀐 방의 보드/차례/버전을 flushBatchSize개씩 한 트랜잭션으로 DB에 쓴다 (실패하면 다음에 다시 시도)
+     */
+    public synchronized void flush() {
+        while (!dirty.isEmpty()) {
+            Map<Long, LiveGame.State> batch = new HashMap<>();
+            Map<Long, Long> roomIds = new HashMap<>();
+            Iterator<Long> iterator = dirty.iterator();
+            while (iterator.hasNext() && batch.size() < properties.getFlushBatchSize()) {
+                Long roomId = iterator.next();
+                // 표시를 먼저 지우고 상태를 읽으므로, 그 사이의 변경은 다시 표시돼 다음 flush에 실린다
+                iterator.remove();
+                LiveGame game = games.get(roomId);
+                if (game != null) {
+                    batch.put(game.getDataId(), game.getState());
+                    roomIds.put(game.getDataId(), roomId);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<OthelloGameData> rows = othelloGameDataRepository.findAllById(batch.keySet());
+                    for (OthelloGameData row : rows) {
+                        LiveGame.State state = batch.get(row.getId());
+                        row.setBoardState(state.getBoardState());
+                        row.setTurn(state.getTurn());
+                        row.setVersion(state.getVersion());
+                        row.setLastMove(state.getLastMove());
+                        row.setLastMoveBy(state.getLastMoveBy());
+                    }
+                });
+                log.debug("Flushed {} live game states", batch.size());
+            } catch (RuntimeException e) {
+                for (Long roomId : roomIds.values()) {
+                    if (games.containsKey(roomId)) {
+                        dirty.add(roomId);
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+}
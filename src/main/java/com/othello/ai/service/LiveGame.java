@@ -0,0 +1,91 @@
+package com.othello.ai.service;
+
+import com.othello.ai.entity.OthelloGameData;
+
+/**
+ * 메모리에 올린 진행 중(PLAYING) 게임
+ * 보드와 차례는 이 객체가 기준이고 DB(othello_game_data)에는 GameStateStore가 나중에 모아 쓴다.
+ * 방 정보(플레이어)는 불러올 때 고정되며, 바뀌면 GameStateStore에서 내렸다가 다시 불러온다.
+ */
+public final class LiveGame {
+
+    private final Long roomId;
+    private final Long dataId;
+    private final Long hostId;
+    private final String hostName;
+    private final Long guestId;
+    private final String guestName;
+
+    private volatile State state;
+
+    LiveGame(Long roomId, Long dataId, Long hostId, String hostName, Long guestId, String guestName, State state) {
+        this.roomId = roomId;
+        this.dataId = dataId;
+        this.hostId = hostId;
+        this.hostName = hostName;
+        this.guestId = guestId;
+        this.guestName = guestName;
+        this.state = state;
+    }
+
+    public Long getRoomId() { return roomId; }
+    public Long getDataId() { return dataId; }
+    public Long getHostId() { return hostId; }
+    public String getHostName() { return hostName; }
+    public Long getGuestId() { return guestId; }
+    public String getGuestName() { return guestName; }
+
+    public State getState() {
+        return state;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    /**
+     * 보드 + 차례 + 버전 (불변, 바뀔 때마다 새로 만든다)
+     * 버전은 상태가 바뀔 때마다 1씩 늘고, 마지막 수(칸, 둔 사람)는 같은 수의 재전송을 알아보는 데 쓴다.
+     */
+    public static final class State {
+
+        private final String boardState;
+        private final String turn;
+        private final long version;
+        private final int lastMove;         // 이 상태를 만든 수의 칸 (row * 8 + col), 없으면 -1
+        private final Long lastMoveBy;
+
+        public State(String boardState, String turn, long version) {
+            this(boardState, turn, version, -1, null);
+        }
+
+        public State(String boardState, String turn, long version, int lastMove, Long lastMoveBy) {
+            this.boardState = boardState;
+            this.turn = turn;
+            this.version = version;
+            this.lastMove = lastMove;
+            this.lastMoveBy = lastMoveBy;
+        }
+
+        public String getBoardState() { return boardState; }
+        public String getTurn() { return turn; }
+        public long getVersion() { return version; }
+        public Integer getLastMove() { return lastMove >= 0 ? lastMove : null; }
+        public Long getLastMoveBy() { return lastMoveBy; }
+
+        /**
+         * DB에 저장된 상태 (마지막 수 포함)
+         */
+        public static State of(OthelloGameData data) {
+            return new State(data.getBoardState(), data.getTurn(), data.getVersion(),
+                    data.getLastMove() != null ? data.getLastMove() : -1, data.getLastMoveBy());
+        }
+
+        /**
+         * fromVersion 상태에서 userId가 position에 둔 수로 만들어진 상태인지
+         */
+        public boolean isResultOf(long fromVersion, int position, Long userId) {
+            return version == fromVersion + 1 && lastMove == position && userId != null && userId.equals(lastMoveBy);
+        }
+    }
+}
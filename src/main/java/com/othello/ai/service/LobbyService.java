@@ -0,0 +1,168 @@
+package com.othello.ai.service;
+
+import com.othello.ai.dto.LobbyEventDto;
+import com.othello.ai.dto.RoomDto;
+import com.othello.ai.entity.GameRoom;
+import com.othello.ai.repository.GameRoomRepository;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대기방 로비 피드 (/topic/lobby)
+ * 대기 중인 방 목록을 메모리에 버전과 함께 들고 있다가, 방이 생기거나 없어지거나 상태가 바뀌면
+ * 목록을 고치고 변경분(ROOM_ADDED, ROOM_REMOVED, ROOM_STATUS)만 보낸다.
+ * 클라이언트는 처음 구독할 때 전체 목록(SNAPSHOT)을 한 번 받고, 그 버전 뒤의 변경분을 이어서 적용한다.
+ * 변경은 방 트랜잭션이 커밋된 뒤에 반영하므로 롤백된 변경은 로비에 나가지 않는다.
+ */
+@Service
+public class LobbyService {
+
+    private static final Logger log = LoggerFactory.getLogger(LobbyService.class);
+
+    static final String LOBBY_TOPIC = "/topic/lobby";
+
+    private final GameRoomRepository gameRoomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate loadTransaction;
+
+    // 대기 중인 방 (최근 생성 순, 불변 목록으로 통째로 바꿈). 처음 쓸 때 DB에서 불러옴
+    private List<RoomDto> rooms;
+    private long version;
+
+    public LobbyService(GameRoomRepository gameRoomRepository, SimpMessagingTemplate messagingTemplate,
+                        PlatformTransactionManager transactionManager) {
+        this.gameRoomRepository = gameRoomRepository;
+        this.messagingTemplate = messagingTemplate;
+        // 커밋 뒤 콜백 안에서도 불러올 수 있도록 항상 새 트랜잭션
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 대기방 목록과 버전 (구독 시 첫 응답, REST 조회)
+     */
+    public synchronized LobbyEventDto getSnapshot() {
+        return LobbyEventDto.snapshot(version, waitingRooms());
+    }
+
+    /**
+     * 방 상태가 바뀌었을 때 (생성, 입장, 새 게임 등). 방 트랜잭션 안에서 호출하면 커밋 뒤에 반영된다.
+     * 대기 중이 되었으면 목록에 추가하고, 대기 중이던 방이 다른 상태가 되었으면 목록에서 빼고 상태를 알린다.
+     */
+    public void roomChanged(GameRoom room) {
+        // 호스트 이름은 트랜잭션 안에서 읽어 둠
+        RoomDto dto = toRoomDto(room);
+        afterCommit(() -> applyChange(dto));
+    }
+
+    /**
+     * 방이 삭제되었을 때. 방 트랜잭션 안에서 호출하면 커밋 뒤에 반영된다.
+     */
+    public void roomDeleted(Long roomId) {
+        afterCommit(() -> applyRemoval(roomId));
+    }
+
+    private synchronized void applyChange(RoomDto room) {
+        List<RoomDto> current = waitingRooms();
+        int index = indexOf(current, room.getId());
+        boolean waiting = GameRoom.RoomStatus.WAITING.name().equals(room.getStatus());
+        if (waiting && index < 0) {
+            List<RoomDto> next = new ArrayList<>(current.size() + 1);
+            next.addAll(current);
+            next.add(insertionIndex(current, room), room);
+            publish(next, LobbyEventDto.roomAdded(version + 1, room));
+        } else if (!waiting && index >= 0) {
+            List<RoomDto> next = new ArrayList<>(current);
+            next.remove(index);
+            publish(next, LobbyEventDto.roomStatus(version + 1, room.getId(), room.getStatus()));
+        }
+    }
+
+    private synchronized void applyRemoval(Long roomId) {
+        List<RoomDto> current = waitingRooms();
+        int index = indexOf(current, roomId);
+        if (index >= 0) {
+            List<RoomDto> next = new ArrayList<>(current);
+            next.remove(index);
+            publish(next, LobbyEventDto.roomRemoved(version + 1, roomId));
+        }
+    }
+
+    private void publish(List<RoomDto> next, LobbyEventDto event) {
+        rooms = Collections.unmodifiableList(next);
+        version = event.getVersion();
+        messagingTemplate.convertAndSend(LOBBY_TOPIC, event);
+    }
+
+    private List<RoomDto> waitingRooms() {
+        if (rooms == null) {
+            List<RoomDto> loaded = loadTransaction.execute(status ->
+                    gameRoomRepository.findWithHostByStatus(GameRoom.RoomStatus.WAITING).stream()
+                            .map(this::toRoomDto)
+                            .collect(Collectors.toList()));
+            rooms = Collections.unmodifiableList(loaded);
+            log.debug("Loaded lobby snapshot: {} waiting rooms", rooms.size());
+        }
+        return rooms;
+    }
+
+    private static int indexOf(List<RoomDto> rooms, Long roomId) {
+        for (int i = 0; i < rooms.size(); i++) {
+            if (rooms.get(i).getId().equals(roomId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * DB에서 불러온 목록과 같은 순서(최근 생성 순)가 되는 자리. 다시 대기 중이 된 오래된 방은 맨 앞이 아님
+     * (생성 시각이 없으면 가장 최근으로 봄)
+     */
+    private static int insertionIndex(List<RoomDto> rooms, RoomDto room) {
+        if (room.getCreatedAt() == null) {
+            return 0;
+        }
+        int index = 0;
+        while (index < rooms.size() && (rooms.get(index).getCreatedAt() == null
+                || !rooms.get(index).getCreatedAt().isBefore(room.getCreatedAt()))) {
+            index++;
+        }
+        return index;
+    }
+
+    private RoomDto toRoomDto(GameRoom room) {
+        return new RoomDto(room.getId(), room.getHost().getName(), room.getStatus().name(), room.getCreatedAt());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 이미 커밋된 방 변경이 로비 반영 실패로 에러가 되지 않도록
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.error("Failed to update lobby", e);
+                }
+            }
+        });
+    }
+}
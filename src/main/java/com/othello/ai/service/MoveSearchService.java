@@ -0,0 +1,209 @@
+package com.othello.ai.service;
+
+import com.othello.ai.config.AIProperties;
+import com.othello.ai.engine.Bitboard;
+import com.othello.ai.engine.EndgameSolver;
+import com.othello.ai.engine.Evaluator;
+import com.othello.ai.engine.MoveResultCache;
+import com.othello.ai.engine.OpeningBook;
+import com.othello.ai.engine.ParallelSearch;
+import com.othello.ai.engine.SearchCancellation;
+import com.othello.ai.engine.SearchResult;
+import com.othello.ai.engine.Searcher;
+import com.othello.ai.engine.Symmetry;
+import com.othello.ai.engine.TranspositionTable;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * AI 최적 수 탐색 (결과 캐시 + 오프닝 북 + 종반 완전 탐색 + 반복 심화 알파-베타/병렬 탐색)
+ */
+@Service
+public class MoveSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(MoveSearchService.class);
+
+    private final AIProperties properties;
+    private final TranspositionTable transpositionTable;
+    private final OpeningBook openingBook;
+    private final MoveResultCache resultCache;
+    private final Evaluator evaluator;
+    private final ThreadLocal<Searcher> searchers;
+    private final ThreadLocal<EndgameSolver> endgameSolvers = ThreadLocal.withInitial(EndgameSolver::new);
+    private final ParallelSearch parallelSearch;
+
+    public MoveSearchService(AIProperties properties, Evaluator evaluator, TranspositionTable transpositionTable,
+                             OpeningBook openingBook, MoveResultCache resultCache, ForkJoinPool aiSearchPool) {
+        this.properties = properties;
+        this.evaluator = evaluator;
+        this.transpositionTable = transpositionTable;
+        this.openingBook = openingBook;
+        this.resultCache = resultCache;
+        // 탐색기는 스레드별, 트랜스포지션 테이블은 모든 요청과 병렬 탐색 스레드가 공유
+        this.searchers = ThreadLocal.withInitial(this::newSearcher);
+        this.parallelSearch = new ParallelSearch(aiSearchPool, searchers);
+    }
+
+    /**
+     * 보드 문자열과 차례로 최적 수 탐색 (timeLimitMs가 없으면 기본 시간 제한)
+     */
+    public SearchResult findBestMove(String boardState, char turn, int difficulty, Integer timeLimitMs) {
+        return findBestMove(boardState, turn, difficulty, timeLimitMs, new SearchCancellation());
+    }
+
+    /**
+     * 취소할 수 있는 탐색 (취소되면 그때까지 끝난 반복의 수, 첫 반복 전이면 수 없는 결과)
+     */
+    public SearchResult findBestMove(String boardState, char turn, int difficulty, Integer timeLimitMs,
+                                     SearchCancellation cancellation) {
+        long me = Bitboard.fromString(boardState, turn);
+        long opponent = Bitboard.fromString(boardState, Bitboard.opponent(turn));
+        return findBestMove(me, opponent, turn == Bitboard.BLACK, difficulty, resolveTimeLimit(timeLimitMs), cancellation);
+    }
+
+    /**
+     * 최적 수 탐색. 대칭인 포지션끼리 같은 결과를 쓰도록 정규화 키로 캐시하고, 같은 탐색이 진행 중이면 그 결과를 기다린다.
+     */
+    public SearchResult findBestMove(long me, long opponent, boolean blackToMove, int difficulty, int timeLimitMs) {
+        return findBestMove(me, opponent, blackToMove, difficulty, timeLimitMs, new SearchCancellation());
+    }
+
+    public SearchResult findBestMove(long me, long opponent, boolean blackToMove, int difficulty, int timeLimitMs,
+                                     SearchCancellation cancellation) {
+        Symmetry.Canonical canonical = blackToMove
+                ? Symmetry.canonicalize(me, opponent) : Symmetry.canonicalize(opponent, me);
+        int empties = Bitboard.SQUARES - Long.bitCount(me | opponent);
+        // 같은 탐색을 기다리는 것과 기다린 뒤의 직접 탐색 모두 이 요청의 마감 안에서
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimitMs);
+        SearchResult result = resultCache.get(canonical.key(blackToMove), difficulty,
+                searchDeadline -> mapMove(search(me, opponent, blackToMove, difficulty, searchDeadline, cancellation),
+                        canonical::toCanonical),
+                // 시간 제한에 걸려 난이도 깊이까지 못 간 결과는 저장하지 않음
+                searched -> searched.getDepth() >= Math.min(difficulty, empties),
+                cancellation, deadline);
+        return mapMove(result, canonical::fromCanonical);
+    }
+
+    private static SearchResult mapMove(SearchResult result, IntUnaryOperator mapping) {
+        if (!result.hasMove()) {
+            return result;
+        }
+        return new SearchResult(mapping.applyAsInt(result.getMove()), result.getScore(), result.getDepth(), result.getNodes());
+    }
+
+    /**
+     * 탐색: 초반은 오프닝 북, 빈 칸이 적으면 종반 완전 탐색, 아니면(또는 시간 안에 못 풀면) 반복 심화 알파-베타 탐색
+     */
+    private SearchResult search(long me, long opponent, boolean blackToMove, int difficulty, long deadline,
+                                SearchCancellation cancellation) {
+        Searcher searcher = searchers.get();
+        EndgameSolver endgameSolver = endgameSolvers.get();
+        searcher.clearStop();
+        endgameSolver.clearStop();
+        cancellation.attach(searcher, endgameSolver);
+        try {
+            return search(me, opponent, blackToMove, difficulty, deadline, endgameSolver, cancellation);
+        } finally {
+            cancellation.detach();
+        }
+    }
+
+    /**
+     * deadline(System.nanoTime 기준)까지 탐색. 이미 지났으면 첫 반복(깊이 1)만 끝내고 그 수를 반환한다.
+     */
+    private SearchResult search(long me, long opponent, boolean blackToMove, int difficulty, long deadline,
+                                EndgameSolver endgameSolver, SearchCancellation cancellation) {
+        if (cancellation.isCancelled()) {
+            // 실행을 기다리는 동안 취소된 요청
+            return SearchResult.NONE;
+        }
+        if (difficulty >= properties.getBook().getMinDifficulty()) {
+            SearchResult booked = openingBook.probe(me, opponent, blackToMove);
+            if (booked.hasMove()) {
+                log.debug("AI book move: difficulty={}, move={}, score={}", difficulty, booked.getMove(), booked.getScore());
+                return booked;
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        int empties = Bitboard.SQUARES - Long.bitCount(me | opponent);
+
+        AIProperties.Endgame endgame = properties.getEndgame();
+        if (difficulty >= endgame.getMinDifficulty() && empties <= endgame.getEmpties()) {
+            // 종반 탐색에는 시간의 절반만 주고, 못 풀면 남은 시간으로 일반 탐색
+            long endgameDeadline = startedAt + Math.max(0L, deadline - startedAt) / 2;
+            SearchResult solved = endgameSolver.solve(me, opponent, endgameDeadline);
+            if (solved.hasMove()) {
+                log.debug("AI endgame solved: empties={}, discDiff={}, nodes={}, elapsedMs={}",
+                        empties, solved.getScore(), solved.getNodes(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                return solved;
+            }
+            if (cancellation.isCancelled()) {
+                return SearchResult.NONE;
+            }
+        }
+
+        // 반복 심화 알파-베타 탐색 (난이도 = 최대 깊이, 시간 제한 내 마지막 완료 반복의 수 사용)
+        // 높은 난이도에서는 보조 탐색 스레드를 붙여 병렬 탐색 (Lazy SMP)
+        AIProperties.Parallel parallel = properties.getSearch().getParallel();
+        int helpers = difficulty >= parallel.getMinDifficulty() ? parallel.getThreads() - 1 : 0;
+        // 테이블 세대는 요청마다 여기서 한 번만 올림 (보조 탐색 스레드는 올리지 않음)
+        transpositionTable.newSearch();
+        SearchResult result = parallelSearch.search(me, opponent, blackToMove, difficulty, deadline, helpers);
+        log.debug("AI search: difficulty={}, helpers={}, completedDepth={}, nodes={}, elapsedMs={}",
+                difficulty, helpers, result.getDepth(), result.getNodes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    /**
+     * 설정을 반영한 탐색기 생성 (스레드별로 하나씩)
+     */
+    private Searcher newSearcher() {
+        Searcher searcher = new Searcher(evaluator, transpositionTable);
+        searcher.setMoveOrdering(properties.getSearch().isMoveOrdering());
+        searcher.setAlgorithm(properties.getSearch().getAlgorithm());
+        return searcher;
+    }
+
+    /**
+     * 요청한 시간 제한을 허용 범위로 보정 (없으면 기본값)
+     */
+    private int resolveTimeLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return properties.getSearch().getTimeLimitMs();
+        }
+        return Math.min(requested, properties.getSearch().getMaxTimeLimitMs());
+    }
+
+    /**
+     * 탐색 통계 (트랜스포지션 테이블 적중률 등)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ttCapacity", transpositionTable.getCapacity());
+        if (transpositionTable.isStatsEnabled()) {
+            stats.put("ttProbes", transpositionTable.getProbes());
+            stats.put("ttHits", transpositionTable.getHits());
+            stats.put("ttStores", transpositionTable.getStores());
+            stats.put("ttHitRate", transpositionTable.getHitRate());
+        }
+        stats.put("bookPositions", openingBook.size());
+        stats.put("bookProbes", openingBook.getProbes());
+        stats.put("bookHits", openingBook.getHits());
+        stats.put("cacheSize", resultCache.size());
+        stats.put("cacheHits", resultCache.getHits());
+        stats.put("cacheMisses", resultCache.getMisses());
+        stats.put("cacheEvictions", resultCache.getEvictions());
+        stats.put("cacheSharedSearches", resultCache.getSharedSearches());
+        return stats;
+    }
+}
@@ -1,35 +1,26 @@
 package com.othello.ai.service;
 
+import com.othello.ai.engine.Bitboard;
+import com.othello.ai.engine.Symmetry;
+import com.othello.ai.engine.Zobrist;
 import org.springframework.stereotype.Service;
+
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class OthelloGameEngine {
 
-    public static final int BOARD_SIZE = 8;
-    public static final char EMPTY = ' ';
-    public static final char BLACK = 'B';
-    public static final char WHITE = 'W';
-    
-    // 8방향: 상, 하, 좌, 우, 좌상, 좌하, 우상, 우하
-    private static final int[] DX = {-1, 1, 0, 0, -1, 1, -1, 1};
-    private static final int[] DY = {0, 0, -1, 1, -1, -1, 1, 1};
+    public static final int BOARD_SIZE = Bitboard.BOARD_SIZE;
+    public static final char EMPTY = Bitboard.EMPTY;
+    public static final char BLACK = Bitboard.BLACK;
+    public static final char WHITE = Bitboard.WHITE;
 
     /**
      * 초기 보드 상태 생성 (중앙 4칸에 흑/백 배치)
      */
     public String getInitialBoardState() {
-        char[] board = new char[BOARD_SIZE * BOARD_SIZE];
-        for (int i = 0; i < board.length; i++) {
-            board[i] = EMPTY;
-        }
-        // 중앙 4칸: (3,3), (3,4), (4,3), (4,4)
-        board[3 * BOARD_SIZE + 3] = WHITE;
-        board[3 * BOARD_SIZE + 4] = BLACK;
-        board[4 * BOARD_SIZE + 3] = BLACK;
-        board[4 * BOARD_SIZE + 4] = WHITE;
-        return new String(board);
+        return Bitboard.toString(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE);
     }
 
     /**
@@ -40,114 +31,45 @@ public class OthelloGameEngine {
             return false;
         }
         
-        char[] board = boardState.toCharArray();
-        int index = row * BOARD_SIZE + col;
-        
-        // 이미 돌이 있는 칸은 불가능
-        if (board[index] != EMPTY) {
-            return false;
-        }
-        
-        // 8방향 중 하나라도 뒤집을 수 있는 돌이 있으면 유효한 수
-        for (int dir = 0; dir < 8; dir++) {
-            if (canFlipInDirection(board, row, col, player, dir)) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
-    /**
-     * 특정 방향으로 뒤집을 수 있는지 확인
-     */
-    private boolean canFlipInDirection(char[] board, int row, int col, char player, int direction) {
-        char opponent = (player == BLACK) ? WHITE : BLACK;
-        int dx = DX[direction];
-        int dy = DY[direction];
-        
-        int x = row + dx;
-        int y = col + dy;
-        boolean foundOpponent = false;
-        
-        // 인접한 칸부터 확인
-        while (x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE) {
-            int index = x * BOARD_SIZE + y;
-            char cell = board[index];
-            
-            if (cell == opponent) {
-                foundOpponent = true;
-            } else if (cell == player && foundOpponent) {
-                return true; // 상대 돌을 만나고 그 다음 내 돌을 만나면 뒤집기 가능
-            } else {
-                return false; // 빈 칸이거나 내 돌이 바로 있으면 불가능
-            }
-            
-            x += dx;
-            y += dy;
-        }
-        
-        return false;
+        long me = Bitboard.fromString(boardState, player);
+        long opponent = Bitboard.fromString(boardState, Bitboard.opponent(player));
+        return (Bitboard.legalMoves(me, opponent) & (1L << Bitboard.square(row, col))) != 0;
     }
 
     /**
      * 수를 두고 보드 상태 업데이트
      */
     public String makeMove(String boardState, int row, int col, char player) {
-        if (!isValidMove(boardState, row, col, player)) {
+        if (row < 0 || row >= BOARD_SIZE || col < 0 || col >= BOARD_SIZE) {
             throw new IllegalArgumentException("Invalid move");
         }
         
-        char[] board = boardState.toCharArray();
-        int index = row * BOARD_SIZE + col;
-        board[index] = player;
-        
-        // 8방향으로 뒤집기
-        for (int dir = 0; dir < 8; dir++) {
-            flipInDirection(board, row, col, player, dir);
-        }
-        
-        return new String(board);
-    }
-
-    /**
-     * 특정 방향으로 돌 뒤집기
-     */
-    private void flipInDirection(char[] board, int row, int col, char player, int direction) {
-        if (!canFlipInDirection(board, row, col, player, direction)) {
-            return;
+        long me = Bitboard.fromString(boardState, player);
+        long opponent = Bitboard.fromString(boardState, Bitboard.opponent(player));
+        int square = Bitboard.square(row, col);
+        long flipped = Bitboard.flips(me, opponent, square);
+        if (flipped == 0) {
+            throw new IllegalArgumentException("Invalid move");
         }
         
-        char opponent = (player == BLACK) ? WHITE : BLACK;
-        int dx = DX[direction];
-        int dy = DY[direction];
-        
-        int x = row + dx;
-        int y = col + dy;
-        
-        while (x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE) {
-            int index = x * BOARD_SIZE + y;
-            if (board[index] == opponent) {
-                board[index] = player;
-            } else if (board[index] == player) {
-                break;
-            }
-            x += dx;
-            y += dy;
-        }
+        me |= flipped | (1L << square);
+        opponent &= ~flipped;
+        return player == BLACK ? Bitboard.toString(me, opponent) : Bitboard.toString(opponent, me);
     }
 
     /**
      * 유효한 수 목록 반환
      */
     public List<int[]> getValidMoves(String boardState, char player) {
-        List<int[]> validMoves = new ArrayList<>();
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int col = 0; col < BOARD_SIZE; col++) {
-                if (isValidMove(boardState, row, col, player)) {
-                    validMoves.add(new int[]{row, col});
-                }
-            }
+        long me = Bitboard.fromString(boardState, player);
+        long opponent = Bitboard.fromString(boardState, Bitboard.opponent(player));
+        long moves = Bitboard.legalMoves(me, opponent);
+        
+        List<int[]> validMoves = new ArrayList<>(Long.bitCount(moves));
+        while (moves != 0) {
+            int square = Long.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+            validMoves.add(new int[]{Bitboard.row(square), Bitboard.col(square)});
         }
         return validMoves;
     }
@@ -156,30 +78,39 @@ public class OthelloGameEngine {
      * 게임 종료 여부 확인
      */
     public boolean isGameOver(String boardState) {
-        List<int[]> blackMoves = getValidMoves(boardState, BLACK);
-        List<int[]> whiteMoves = getValidMoves(boardState, WHITE);
-        return blackMoves.isEmpty() && whiteMoves.isEmpty();
+        return Bitboard.isGameOver(Bitboard.fromString(boardState, BLACK), Bitboard.fromString(boardState, WHITE));
     }
 
     /**
      * 돌 개수 계산
      */
     public int[] countPieces(String boardState) {
-        int blackCount = 0;
-        int whiteCount = 0;
-        char[] board = boardState.toCharArray();
-        
-        for (char cell : board) {
-            if (cell == BLACK) {
-                blackCount++;
-            } else if (cell == WHITE) {
-                whiteCount++;
-            }
-        }
-        
+        int blackCount = Long.bitCount(Bitboard.fromString(boardState, BLACK));
+        int whiteCount = Long.bitCount(Bitboard.fromString(boardState, WHITE));
         return new int[]{blackCount, whiteCount};
     }
 
+    /**
+     * 포지션 키 (보드 + 둘 차례의 Zobrist 해시)
+     */
+    public long positionKey(String boardState, char turn) {
+        return Zobrist.hash(Bitboard.fromString(boardState, BLACK), Bitboard.fromString(boardState, WHITE), turn == BLACK);
+    }
+
+    /**
+     * 대칭 정규화한 포지션 키 (회전/반전으로 같아지는 보드끼리 같은 값)
+     */
+    public long canonicalKey(String boardState, char turn) {
+        return canonicalize(boardState).key(turn == BLACK);
+    }
+
+    /**
+     * 8가지 대칭 중 가장 작은 보드로 정규화 (정규화 보드의 수는 fromCanonical로 원래 칸에 되돌림)
+     */
+    public Symmetry.Canonical canonicalize(String boardState) {
+        return Symmetry.canonicalize(Bitboard.fromString(boardState, BLACK), Bitboard.fromString(boardState, WHITE));
+    }
+
     /**
      * 승자 판정
      */
@@ -0,0 +1,50 @@
+package com.othello.ai.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 방별 실행 직렬화용 락 테이블
+ * 방 ID를 해시해 고정 개수의 락 중 하나를 쓰므로, 같은 방의 작업은 한 번에 하나씩 실행되고
+ * 다른 방끼리는 (같은 락에 걸리지 않는 한) 서로 기다리지 않는다. 방마다 락을 만들거나 지울 필요가 없다.
+ */
+public final class RoomLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public RoomLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 방의 락을 잡고 실행 (재진입 가능)
+     */
+    public <T> T call(Long roomId, Supplier<T> action) {
+        ReentrantLock lock = locks[index(roomId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void run(Long roomId, Runnable action) {
+        call(roomId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private int index(Long roomId) {
+        // 연속된 방 ID가 골고루 흩어지도록 섞음
+        long hash = roomId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
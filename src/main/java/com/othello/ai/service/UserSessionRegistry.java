@@ -0,0 +1,114 @@
+package com.othello.ai.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 접속 중인 사용자별 WebSocket 세션과 참여 중인 방 목록
+ * 연결이 끊겼을 때 전체 방을 뒤지지 않고 그 사용자의 방만 처리하기 위해 쓴다.
+ * 방 목록은 처음 필요할 때 DB(호스트/게스트 조건)에서 불러오고, 그 뒤로는 방을 만들거나 들어갈 때 추가한다.
+ * 목록에 남은 지난 방은 괜찮다 (처리할 때 DB로 다시 확인하고 뺀다). 빠진 방이 없도록 추가는 커밋 뒤에 한다.
+ */
+@Service
+public class UserSessionRegistry {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 연결
+     */
+    public void sessionOpened(Long userId, String sessionId) {
+        entries.compute(userId, (id, entry) -> {
+            Entry target = entry != null ? entry : new Entry();
+            target.addSession(sessionId);
+            return target;
+        });
+    }
+
+    /**
+     * 세션 종료. 그 사용자의 세션이 더 남지 않았으면 true (연결 끊김 처리 대상)
+     */
+    public boolean sessionClosed(Long userId, String sessionId) {
+        Entry entry = entries.get(userId);
+        return entry == null || entry.removeSession(sessionId);
+    }
+
+    /**
+     * 사용자가 참여 중인 방 ID (목록이 없으면 loader로 DB에서 불러옴)
+     */
+    public Set<Long> getRooms(Long userId, Supplier<List<Long>> loader) {
+        Entry entry = entries.computeIfAbsent(userId, id -> new Entry());
+        return entry.rooms(loader);
+    }
+
+    /**
+     * 방 추가 (방 생성/입장 커밋 뒤). 아직 목록을 불러오지 않은 사용자는 다음에 DB에서 불러오므로 건너뜀.
+     */
+    public void addRoom(Long userId, Long roomId) {
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.addRoom(roomId);
+        }
+    }
+
+    public void removeRoom(Long userId, Long roomId) {
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.removeRoom(roomId);
+        }
+    }
+
+    /**
+     * 세션이 남지 않은 사용자의 항목 제거 (다음에 필요하면 DB에서 다시 불러옴)
+     */
+    public void release(Long userId) {
+        entries.computeIfPresent(userId, (id, entry) -> entry.hasSessions() ? entry : null);
+    }
+
+    /**
+     * 사용자 한 명의 세션과 방 목록 (rooms가 null이면 아직 불러오지 않음)
+     * 불러오는 동안 같은 사용자의 추가는 기다렸다가 불러온 목록에 더한다.
+     */
+    private static final class Entry {
+
+        private final Set<String> sessions = new HashSet<>();
+        private Set<Long> rooms;
+
+        synchronized void addSession(String sessionId) {
+            sessions.add(sessionId);
+        }
+
+        synchronized boolean removeSession(String sessionId) {
+            sessions.remove(sessionId);
+            return sessions.isEmpty();
+        }
+
+        synchronized boolean hasSessions() {
+            return !sessions.isEmpty();
+        }
+
+        synchronized Set<Long> rooms(Supplier<List<Long>> loader) {
+            if (rooms == null) {
+                rooms = new HashSet<>(loader.get());
+            }
+            return new HashSet<>(rooms);
+        }
+
+        synchronized void addRoom(Long roomId) {
+            if (rooms != null) {
+                rooms.add(roomId);
+            }
+        }
+
+        synchronized void removeRoom(Long roomId) {
+            if (rooms != null) {
+                rooms.remove(roomId);
+            }
+        }
+    }
+}
@@ -367,10 +367,8 @@ $(document).ready(function() {
                     
                     $('#login-container').hide();
                     $('#waiting-rooms-container').show();
-                    loadWaitingRooms();
-                    
-                    if (window.roomRefreshInterval) clearInterval(window.roomRefreshInterval);
-                    window.roomRefreshInterval = setInterval(loadWaitingRooms, 5000);
+                    // 대기방 목록은 로비 피드로 받음 (처음 목록 + 변경분)
+                    connectLobby();
                 },
                 error: function() {
                     alert('로그인에 실패했습니다.');
@@ -418,10 +416,7 @@ $(document).ready(function() {
     });
     
     $(document).on('click', '#btn-back-to-login', function() {
-        if (window.roomRefreshInterval) {
-            clearInterval(window.roomRefreshInterval);
-            window.roomRefreshInterval = null;
-        }
+        disconnectLobby();
         $('#waiting-rooms-container').hide();
         $('#login-container').show();
         // 전체 화면 해제
@@ -471,7 +466,11 @@ $(document).ready(function() {
     });
     
     $(document).on('click', '#btn-refresh-rooms', function() {
-        loadWaitingRooms();
+        if (lobbyClient && lobbyClient.connected) {
+            requestLobbySnapshot();
+        } else {
+            loadWaitingRooms();
+        }
     });
     
     $(document).on('click', '#btn-create-new-room', function() {
@@ -5,6 +5,13 @@ window.recognition = null;
 window.isRecording = false;
 window.finalTranscript = '';
 
+// 게임 상태 버전 (서버가 보낸 마지막 버전, 수를 보낼 때 함께 전송)
+let gameVersion = null;
+// 응답을 기다리는 수 (응답이 없으면 같은 버전으로 다시 보냄 - 서버에서 중복은 한 번만 적용)
+let pendingMove = null;
+const MOVE_RETRY_MS = 3000;
+const MOVE_MAX_RETRIES = 2;
+
 // WebSocket 연결
 function connectWebSocket(roomIdParam) {
     const socket = new SockJS('/ws');
@@ -74,13 +81,40 @@ function sendMoveToServer(row, col) {
         userId: userId.toString()
     };
     
-    stompClient.send('/app/game/' + roomId + '/move', headers, JSON.stringify({
-        roomId: roomId,
-        row: row,
-        col: col,
-        boardState: boardState,
-        turn: currentTurn
-    }));
+    clearPendingMove();
+    pendingMove = {
+        payload: JSON.stringify({
+            roomId: roomId,
+            row: row,
+            col: col,
+            boardState: boardState,
+            turn: currentTurn,
+            version: gameVersion
+        }),
+        retries: 0,
+        timer: null
+    };
+    sendPendingMove(headers);
+}
+
+function sendPendingMove(headers) {
+    if (!pendingMove) return;
+    stompClient.send('/app/game/' + roomId + '/move', headers, pendingMove.payload);
+    pendingMove.timer = setTimeout(function() {
+        if (!pendingMove || pendingMove.retries >= MOVE_MAX_RETRIES || !stompClient || !stompClient.connected) {
+            return;
+        }
+        pendingMove.retries++;
+        console.log('No response for move, retrying (' + pendingMove.retries + ')');
+        sendPendingMove(headers);
+    }, MOVE_RETRY_MS);
+}
+
+function clearPendingMove() {
+    if (pendingMove && pendingMove.timer) {
+        clearTimeout(pendingMove.timer);
+    }
+    pendingMove = null;
 }
 
 // 게임 상태 업데이트 처리
@@ -89,6 +123,16 @@ function handleGameStateUpdate(gameState) {
     
     console.log('handleGameStateUpdate received:', gameState);
     
+    if (gameState.version !== undefined && gameState.version !== null) {
+        // 늦게 도착한 이전 상태는 무시
+        if (gameVersion !== null && gameState.version < gameVersion) {
+            console.log('Ignoring stale game state:', gameState.version, '<', gameVersion);
+            return;
+        }
+        gameVersion = gameState.version;
+        clearPendingMove();
+    }
+    
     if (gameState.boardState) {
         boardState = gameState.boardState;
     }
@@ -443,40 +487,106 @@ function sendVoiceMessageToServer(text) {
     }));
 }
 
-// 대기방 목록 로드
+// 로비 피드 (/topic/lobby): 처음 한 번 전체 목록을 받고 이후에는 변경분만 받음
+let lobbyClient = null;
+let lobbyRooms = [];
+let lobbyVersion = null;
+let lobbyPending = []; // 첫 목록을 받기 전에 도착한 변경분
+let lobbyReconnectTimer = null;
+const LOBBY_RECONNECT_MS = 5000;
+
+function connectLobby() {
+    disconnectLobby();
+    
+    const client = Stomp.over(new SockJS('/ws'));
+    client.debug = null;
+    lobbyClient = client;
+    // 로비 연결은 userId 없이 (게임 세션으로 세지 않음)
+    client.connect({}, function() {
+        if (lobbyClient !== client) {
+            client.disconnect();
+            return;
+        }
+        // 변경분을 먼저 구독해 두고 첫 목록을 요청해야 그 사이 변경을 놓치지 않음
+        client.subscribe('/topic/lobby', function(message) {
+            handleLobbyEvent(JSON.parse(message.body));
+        });
+        requestLobbySnapshot();
+    }, function(error) {
+        console.error('Lobby WebSocket connection error:', error);
+        if (lobbyClient !== client) return;
+        lobbyClient = null;
+        // 연결이 안 되는 동안은 목록을 한 번 불러오고 잠시 뒤 다시 연결
+        loadWaitingRooms();
+        lobbyReconnectTimer = setTimeout(connectLobby, LOBBY_RECONNECT_MS);
+    });
+}
+
+function disconnectLobby() {
+    if (lobbyReconnectTimer) {
+        clearTimeout(lobbyReconnectTimer);
+        lobbyReconnectTimer = null;
+    }
+    const client = lobbyClient;
+    lobbyClient = null;
+    lobbyVersion = null;
+    lobbyPending = [];
+    if (client && client.connected) {
+        client.disconnect();
+    }
+}
+
+function requestLobbySnapshot() {
+    if (!lobbyClient || !lobbyClient.connected) return;
+    lobbyVersion = null;
+    const subscription = lobbyClient.subscribe('/app/lobby', function(message) {
+        subscription.unsubscribe();
+        const snapshot = JSON.parse(message.body);
+        lobbyRooms = snapshot.rooms || [];
+        lobbyVersion = snapshot.version;
+        // 기다리던 변경분 중 목록 이후 것만 적용
+        const pending = lobbyPending;
+        lobbyPending = [];
+        pending.forEach(handleLobbyEvent);
+        renderWaitingRooms(lobbyRooms);
+    });
+}
+
+function handleLobbyEvent(event) {
+    if (lobbyVersion === null) {
+        lobbyPending.push(event);
+        return;
+    }
+    if (event.version <= lobbyVersion) return;
+    if (event.version !== lobbyVersion + 1) {
+        // 중간 변경을 놓쳤으면 전체 목록을 다시 받음
+        lobbyPending = [event];
+        requestLobbySnapshot();
+        return;
+    }
+    lobbyVersion = event.version;
+    
+    if (event.type === 'ROOM_ADDED') {
+        // 서버 목록과 같은 순서(최근 생성 순)로 끼워 넣음 (다시 대기 중이 된 오래된 방은 맨 앞이 아님)
+        const rooms = lobbyRooms.filter(room => room.id !== event.roomId);
+        const createdAt = Date.parse(event.room.createdAt);
+        let index = isNaN(createdAt) ? 0 : rooms.findIndex(room => Date.parse(room.createdAt) < createdAt);
+        if (index < 0) index = rooms.length;
+        rooms.splice(index, 0, event.room);
+        lobbyRooms = rooms;
+    } else if (event.type === 'ROOM_REMOVED' || event.type === 'ROOM_STATUS') {
+        lobbyRooms = lobbyRooms.filter(room => room.id !== event.roomId);
+    }
+    renderWaitingRooms(lobbyRooms);
+}
+
+// 대기방 목록 로드 (새로고침 버튼, 로비 연결 실패 시)
 function loadWaitingRooms() {
     $.ajax({
         url: '/api/rooms/waiting',
         method: 'GET',
         success: function(rooms) {
-            const roomsList = $('#rooms-list');
-            roomsList.empty();
-            
-            if (rooms.length === 0) {
-                roomsList.append('<p style="text-align: center; color: #999; padding: 20px;">대기 중인 방이 없습니다.</p>');
-                return;
-            }
-            
-            rooms.forEach(room => {
-                const roomDiv = $('<div>').css({
-                    padding: '15px',
-                    margin: '10px 0',
-                    border: '2px solid #ffcc00',
-                    borderRadius: '10px',
-                    backgroundColor: '#fff',
-                    cursor: 'pointer'
-                });
-                
-                roomDiv.append($('<p>').css({ margin: '0 0 5px 0', fontWeight: 'bold' }).text('방장: ' + room.hostName));
-                roomDiv.append($('<p>').css({ margin: '0', fontSize: '0.9rem', color: '#666' })
-                    .text('생성 시간: ' + new Date(room.createdAt).toLocaleString()));
-                
-                roomDiv.on('click', function() {
-                    joinRoom(room.id);
-                });
-                
-                roomsList.append(roomDiv);
-            });
+            renderWaitingRooms(rooms);
         },
         error: function() {
             console.error('Failed to load waiting rooms');
@@ -484,6 +594,37 @@ function loadWaitingRooms() {
     });
 }
 
+function renderWaitingRooms(rooms) {
+    const roomsList = $('#rooms-list');
+    roomsList.empty();
+    
+    if (rooms.length === 0) {
+        roomsList.append('<p style="text-align: center; color: #999; padding: 20px;">대기 중인 방이 없습니다.</p>');
+        return;
+    }
+    
+    rooms.forEach(room => {
+        const roomDiv = $('<div>').css({
+            padding: '15px',
+            margin: '10px 0',
+            border: '2px solid #ffcc00',
+            borderRadius: '10px',
+            backgroundColor: '#fff',
+            cursor: 'pointer'
+        });
+        
+        roomDiv.append($('<p>').css({ margin: '0 0 5px 0', fontWeight: 'bold' }).text('방장: ' + room.hostName));
+        roomDiv.append($('<p>').css({ margin: '0', fontSize: '0.9rem', color: '#666' })
+            .text('생성 시간: ' + new Date(room.createdAt).toLocaleString()));
+        
+        roomDiv.on('click', function() {
+            joinRoom(room.id);
+        });
+        
+        roomsList.append(roomDiv);
+    });
+}
+
 // 방 생성
 function createRoom() {
     $.ajax({
@@ -493,6 +634,9 @@ function createRoom() {
         data: JSON.stringify({ hostId: userId }),
         success: function(room) {
             roomId = room.id;
+            gameVersion = null;
+            disconnectLobby();
+            clearPendingMove();
             isHost = true;
             myColor = 'B';
             opponentName = '상대방';
@@ -533,6 +677,7 @@ function joinRoom(roomIdParam) {
         success: function(gameState) {
             roomId = roomIdParam;
             isHost = false;
+            disconnectLobby();
             myColor = 'W';
             
             // 호스트 이름 가져오기
@@ -556,6 +701,8 @@ function joinRoom(roomIdParam) {
             
             boardState = gameState.boardState || OTHELLO.getInitialBoardState();
             currentTurn = gameState.turn || 'B';
+            gameVersion = gameState.version !== undefined ? gameState.version : null;
+            clearPendingMove();
             
             renderBoard(boardState);
             updateStatus();
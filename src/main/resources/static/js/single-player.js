@@ -1,11 +1,75 @@
 // 싱글 플레이어 모드 (AI 대전)
 
+// AI 코멘트 수신용 WebSocket (코멘트는 수 응답과 따로 /topic/ai/comment/{requestId}로 도착)
+let commentClient = null;
+// 가장 최근 AI 수 요청 (이전 수의 늦은 코멘트가 새 수의 메시지를 덮지 않도록)
+let latestCommentRequest = null;
+
+function connectCommentChannel(callback) {
+    if (commentClient && commentClient.connected) {
+        callback();
+        return;
+    }
+    
+    let done = false;
+    const client = Stomp.over(new SockJS('/ws'));
+    client.debug = null;
+    client.connect({}, function() {
+        commentClient = client;
+        if (!done) { done = true; callback(); }
+    }, function(error) {
+        // 연결이 안 되면 코멘트 없이 진행
+        console.error('Comment WebSocket connection error:', error);
+        commentClient = null;
+        if (!done) { done = true; callback(); }
+    });
+}
+
+function newRequestId() {
+    return Date.now().toString(36) + '-' + Math.random().toString(36).substring(2, 10);
+}
+
+// 요청을 보내기 전에 구독해 두어야 코멘트를 놓치지 않음
+// 반환한 request.received로 수 응답보다 코멘트가 먼저 왔는지 확인
+function subscribeComment(requestId) {
+    const request = { id: requestId, received: false, subscription: null };
+    latestCommentRequest = request;
+    if (!commentClient || !commentClient.connected) return request;
+    
+    request.subscription = commentClient.subscribe('/topic/ai/comment/' + requestId, function(message) {
+        request.subscription.unsubscribe();
+        const data = JSON.parse(message.body);
+        if (data.comment) {
+            request.received = true;
+            if (latestCommentRequest === request) {
+                $('#ai-message').text(data.comment);
+                speak(data.comment);
+            }
+        }
+    });
+    return request;
+}
+
+function unsubscribeComment(request) {
+    if (request.subscription) {
+        request.subscription.unsubscribe();
+    }
+}
+
 function makeAIMove() {
     if (!boardState || currentTurn !== 'W') return;
     
     stopNudgeTimer();
     $('#ai-message').text('음... 어디로 두면 좋을까? 🤔');
     
+    connectCommentChannel(function() {
+        requestAIMove(newRequestId());
+    });
+}
+
+function requestAIMove(requestId) {
+    const commentRequest = subscribeComment(requestId);
+    
     $.ajax({
         url: '/api/ai/move',
         method: 'POST',
@@ -14,9 +78,14 @@ function makeAIMove() {
             boardState: boardState,
             turn: 'W',
             userName: userName,
-            difficulty: currentDifficulty
+            difficulty: currentDifficulty,
+            requestId: requestId
         }),
         success: function(response) {
+            if (!response.commentPending) {
+                unsubscribeComment(commentRequest);
+            }
+            
             if (response.move === 'pass') {
                 // 패스
                 currentTurn = 'B';
@@ -47,8 +116,8 @@ function makeAIMove() {
             if (response.comment) {
                 $('#ai-message').text(response.comment);
                 speak(response.comment);
-            } else {
-                // 코멘트가 없으면 기본 메시지 표시 (음성 출력 없음)
+            } else if (!commentRequest.received) {
+                // 코멘트가 없거나 나중에 오면 우선 기본 메시지 표시 (음성 출력 없음, 이미 도착한 코멘트는 그대로 둠)
                 $('#ai-message').text('좋아요! 계속 진행해봐요! 😊');
             }
             
@@ -58,6 +127,7 @@ function makeAIMove() {
             }
         },
         error: function() {
+            unsubscribeComment(commentRequest);
             $('#ai-message').text('미안해요, 잠시 생각 중 오류가 발생했어요.');
             // 랜덤 수로 대체
             const validMoves = OTHELLO.getValidMoves(boardState, 'W');
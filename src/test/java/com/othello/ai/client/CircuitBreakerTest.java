@@ -0,0 +1,76 @@
+package com.othello.ai.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 상태가 바뀌기 전에 허가받은 호출의 결과가 시험 호출로 세어지지 않는지 검사
+ */
+class CircuitBreakerTest {
+
+    private static final int WINDOW_SIZE = 4;
+    private static final long SLOW_CALL_MS = 1_000;
+    private static final long OPEN_MS = 50;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(WINDOW_SIZE, 50, SLOW_CALL_MS, OPEN_MS);
+
+    @Test
+    void staleSuccessDoesNotCloseHalfOpenCircuit() throws InterruptedException {
+        long slow = circuitBreaker.tryAcquire();
+        long trial = openThenStartTrial();
+
+        // 닫혀 있을 때 시작한 호출이 시험 호출보다 먼저 성공으로 끝남
+        circuitBreaker.onSuccess(slow, 0);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure(trial);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void staleFailureDoesNotReopenHalfOpenCircuit() throws InterruptedException {
+        long slow = circuitBreaker.tryAcquire();
+        long trial = openThenStartTrial();
+
+        circuitBreaker.onFailure(slow);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess(trial, 0);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void staleResultIsNotCountedAfterClosing() throws InterruptedException {
+        long slow = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess(openThenStartTrial(), 0);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        // 다시 닫힌 뒤의 실패 창에 이전 호출의 실패가 섞이지 않음 (섞였다면 실패 2번, 성공 2번으로 다시 열림)
+        circuitBreaker.onFailure(slow);
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        for (int i = 0; i < WINDOW_SIZE - 1; i++) {
+            circuitBreaker.onSuccess(circuitBreaker.tryAcquire(), 0);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    /**
+     * 실패로 회로를 열고 열린 시간이 지난 뒤 시험 호출 허가를 받음
+     */
+    private long openThenStartTrial() throws InterruptedException {
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+        Thread.sleep(OPEN_MS + 20);
+        long trial = circuitBreaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, trial);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        return trial;
+    }
+}
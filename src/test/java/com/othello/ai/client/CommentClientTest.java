@@ -0,0 +1,208 @@
+package com.othello.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스텁 HTTP 서버(임의 포트)를 상대로 한 벌크헤드/서킷 브레이커 동작 검사
+ */
+class CommentClientTest {
+
+    private static final int WINDOW_SIZE = 4;
+    private static final long SLOW_CALL_MS = 300;
+    private static final long OPEN_MS = 200;
+    private static final String COMMENT = "잘했어요!";
+    private static final String RESPONSE = "{\"choices\":[{\"message\":{\"content\":"
+            + "\"{\\\"comment\\\":\\\"" + COMMENT + "\\\"}\"}}]}";
+
+    private enum Mode { OK, FAIL, SLOW, BLOCK }
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private ExecutorService callers;
+    private RestTemplate restTemplate;
+    private volatile Mode mode = Mode.OK;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch blockedRequest = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.createContext("/chat", this::handle);
+        server.start();
+        callers = Executors.newCachedThreadPool();
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(5));
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        callers.shutdownNow();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void opensAfterFailuresAndShortCircuits() {
+        CommentClient client = newClient(2);
+        mode = Mode.FAIL;
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertFalse(request(client).isPresent());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        mode = Mode.OK;
+        assertFalse(request(client).isPresent());
+        assertEquals(WINDOW_SIZE, requests.get());
+        assertEquals(1, client.getShortCircuited());
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() throws Exception {
+        CommentClient client = newClient(2);
+        open(client);
+
+        mode = Mode.BLOCK;
+        CompletableFuture<Optional<String>> trial = CompletableFuture.supplyAsync(() -> request(client), callers);
+        assertTrue(blockedRequest.await(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, client.getCircuitState());
+
+        // 시험 호출이 끝나기 전의 다른 호출은 서버로 가지 않음
+        int before = requests.get();
+        assertFalse(request(client).isPresent());
+        assertEquals(before, requests.get());
+        assertEquals(1, client.getShortCircuited());
+
+        unblock.countDown();
+        assertEquals(Optional.of(COMMENT), trial.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+
+        mode = Mode.OK;
+        assertEquals(Optional.of(COMMENT), request(client));
+    }
+
+    @Test
+    void reopensWhenTrialIsSlow() throws Exception {
+        CommentClient client = newClient(2);
+        open(client);
+
+        mode = Mode.SLOW;
+        // 응답은 오지만 느린 호출은 실패로 세어 다시 열림
+        assertEquals(Optional.of(COMMENT), request(client));
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+    }
+
+    @Test
+    void rejectsCallsOverBulkhead() throws Exception {
+        CommentClient client = newClient(1);
+        mode = Mode.BLOCK;
+        CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() -> request(client), callers);
+        assertTrue(blockedRequest.await(5, TimeUnit.SECONDS));
+
+        assertFalse(request(client).isPresent());
+        assertEquals(1, client.getRejected());
+        assertEquals(1, requests.get());
+
+        unblock.countDown();
+        assertEquals(Optional.of(COMMENT), first.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void errorDuringTrialDoesNotLeaveTrialInFlight() throws Exception {
+        CommentClient client = newClient(2);
+        open(client);
+
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            throw new AssertionError("boom");
+        });
+        assertThrows(AssertionError.class, () -> request(client));
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        // 실패로 기록됐으므로 다음 시험 호출이 다시 허용됨
+        restTemplate.getInterceptors().clear();
+        mode = Mode.OK;
+        Thread.sleep(OPEN_MS + 100);
+        assertEquals(Optional.of(COMMENT), request(client));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    private CommentClient newClient(int maxConcurrentCalls) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(WINDOW_SIZE, 50, SLOW_CALL_MS, OPEN_MS);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/chat";
+        return new CommentClient(restTemplate, new ObjectMapper(), url, "test-key", "test-model",
+                maxConcurrentCalls, circuitBreaker);
+    }
+
+    /**
+     * 실패로 회로를 연 뒤 열린 시간이 지나기를 기다림 (다음 호출이 시험 호출)
+     */
+    private void open(CommentClient client) throws InterruptedException {
+        mode = Mode.FAIL;
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            request(client);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+        Thread.sleep(OPEN_MS + 100);
+    }
+
+    private static Optional<String> request(CommentClient client) {
+        return client.requestComment("system", "user");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        Mode current = mode;
+        try {
+            if (current == Mode.SLOW) {
+                Thread.sleep(SLOW_CALL_MS + 200);
+            } else if (current == Mode.BLOCK) {
+                blockedRequest.countDown();
+                unblock.await(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = (current == Mode.FAIL ? "{\"error\":\"unavailable\"}" : RESPONSE)
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(current == Mode.FAIL ? 503 : 200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
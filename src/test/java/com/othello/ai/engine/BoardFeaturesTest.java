@@ -0,0 +1,167 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 안정 돌 검사: 안정하다고 한 돌은 이후 어떤 수순에서도 뒤집히지 않아야 하고,
+ * 답을 아는 고정 포지션(가득 찬 변, 모서리에서 뻗은 쐐기)에서는 개수가 맞아야 한다.
+ */
+class BoardFeaturesTest {
+
+    private static final int EXHAUSTIVE_EMPTIES = 8;
+
+    @Test
+    void stableDiscsAreNeverFlipped() {
+        Random random = new Random(13L);
+        int exhaustive = 0;
+        int stableSeen = 0;
+        for (int game = 0; game < 300; game++) {
+            long black = Bitboard.INITIAL_BLACK;
+            long white = Bitboard.INITIAL_WHITE;
+            boolean blackToMove = true;
+            while (!Bitboard.isGameOver(black, white)) {
+                long stableBlack = BoardFeatures.stableDiscs(black, white);
+                long stableWhite = BoardFeatures.stableDiscs(white, black);
+                assertEquals(0L, stableBlack & ~black);
+                assertEquals(0L, stableWhite & ~white);
+                stableSeen += Long.bitCount(stableBlack | stableWhite);
+
+                if (Long.bitCount(~(black | white)) <= EXHAUSTIVE_EMPTIES) {
+                    // 종반은 모든 수순을 확인
+                    assertKept(black, white, blackToMove, stableBlack, stableWhite);
+                    exhaustive++;
+                    break;
+                }
+                // 그 전에는 무작위 수순 몇 개로 확인
+                for (int i = 0; i < 10; i++) {
+                    assertKeptInPlayout(random, black, white, blackToMove, stableBlack, stableWhite);
+                }
+
+                long[] next = play(random, black, white, blackToMove);
+                black = next[0];
+                white = next[1];
+                blackToMove = !blackToMove;
+            }
+        }
+        assertTrue(exhaustive > 250, "exhaustive " + exhaustive);
+        assertTrue(stableSeen > 0, "no stable disc seen");
+    }
+
+    @Test
+    void fullEdgeIsStableForBothColours() {
+        // 1행이 흑 흑 흑 백 백 백 흑 흑으로 가득 참 (나머지는 빈 칸)
+        long black = bits(0, 1, 2, 6, 7);
+        long white = bits(3, 4, 5);
+        assertEquals(black, BoardFeatures.stableDiscs(black, white));
+        assertEquals(white, BoardFeatures.stableDiscs(white, black));
+
+        // 한 칸이 비면 모서리에서 이어진 같은 색만 안정
+        long open = white & ~bits(5);
+        assertEquals(bits(0, 1, 2, 6, 7), BoardFeatures.stableDiscs(black, open));
+        assertEquals(0L, BoardFeatures.stableDiscs(open, black));
+    }
+
+    @Test
+    void cornerAnchoredWedgeIsStable() {
+        // a1 모서리에서 뻗은 쐐기: a1 b1 c1 / a2 b2 / a3
+        long wedge = bits(0, 1, 2, 8, 9, 16);
+        long white = bits(3, 10, 17, 24, 27, 28);
+        assertEquals(wedge, BoardFeatures.stableDiscs(wedge, white));
+        // 쐐기에 붙은 상대 돌은 반대쪽이 비어 있어 안정하지 않음
+        assertEquals(0L, BoardFeatures.stableDiscs(white, wedge));
+
+        // 가운데 칸(b2)이 비어도 변을 따라 모서리에서 이어진 돌은 안정
+        long hollow = wedge & ~bits(9);
+        assertEquals(hollow, BoardFeatures.stableDiscs(hollow, white));
+
+        // 변에 빈 칸이 끼면 그 너머 돌은 안정하지 않음: a1 b1 _ d1
+        assertEquals(bits(0, 1), BoardFeatures.stableDiscs(bits(0, 1, 3), bits(27)));
+
+        // 네 모서리의 쐐기는 모두 같은 개수
+        for (int orientation = 1; orientation < Symmetry.ORIENTATIONS; orientation++) {
+            long turned = Symmetry.transform(wedge, orientation);
+            long turnedWhite = Symmetry.transform(white, orientation);
+            assertEquals(turned, BoardFeatures.stableDiscs(turned, turnedWhite), "orientation " + orientation);
+        }
+    }
+
+    @Test
+    void initialBoardHasNoneAndFullBoardIsAllStable() {
+        assertEquals(0L, BoardFeatures.stableDiscs(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE));
+        assertEquals(0L, BoardFeatures.stableDiscs(Bitboard.INITIAL_WHITE, Bitboard.INITIAL_BLACK));
+        // 꽉 찬 보드는 모든 돌이 안정
+        long black = 0x00000000FFFFFFFFL;
+        assertEquals(black, BoardFeatures.stableDiscs(black, ~black));
+    }
+
+    /**
+     * 모든 수순(패스 포함)에서 안정 돌이 그대로 남는지 확인
+     */
+    private static void assertKept(long black, long white, boolean blackToMove, long stableBlack, long stableWhite) {
+        assertEquals(stableBlack, stableBlack & black);
+        assertEquals(stableWhite, stableWhite & white);
+        long me = blackToMove ? black : white;
+        long opponent = blackToMove ? white : black;
+        long legal = Bitboard.legalMoves(me, opponent);
+        if (legal == 0) {
+            if (Bitboard.legalMoves(opponent, me) != 0) {
+                assertKept(black, white, !blackToMove, stableBlack, stableWhite);
+            }
+            return;
+        }
+        for (long moves = legal; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flipped = Bitboard.flips(me, opponent, square);
+            long nextMe = me | flipped | (1L << square);
+            long nextOpponent = opponent & ~flipped;
+            assertKept(blackToMove ? nextMe : nextOpponent, blackToMove ? nextOpponent : nextMe, !blackToMove,
+                    stableBlack, stableWhite);
+        }
+    }
+
+    private static void assertKeptInPlayout(Random random, long black, long white, boolean blackToMove,
+                                            long stableBlack, long stableWhite) {
+        while (!Bitboard.isGameOver(black, white)) {
+            long[] next = play(random, black, white, blackToMove);
+            black = next[0];
+            white = next[1];
+            blackToMove = !blackToMove;
+            assertEquals(stableBlack, stableBlack & black);
+            assertEquals(stableWhite, stableWhite & white);
+        }
+    }
+
+    /**
+     * 무작위 수 하나 (둘 수 없으면 패스) → {흑, 백}
+     */
+    private static long[] play(Random random, long black, long white, boolean blackToMove) {
+        long me = blackToMove ? black : white;
+        long opponent = blackToMove ? white : black;
+        long legal = Bitboard.legalMoves(me, opponent);
+        if (legal == 0) {
+            return new long[]{black, white};
+        }
+        int index = random.nextInt(Long.bitCount(legal));
+        for (int i = 0; i < index; i++) {
+            legal &= legal - 1;
+        }
+        int square = Long.numberOfTrailingZeros(legal);
+        long flipped = Bitboard.flips(me, opponent, square);
+        me |= flipped | (1L << square);
+        opponent &= ~flipped;
+        return blackToMove ? new long[]{me, opponent} : new long[]{opponent, me};
+    }
+
+    private static long bits(int... squares) {
+        long bits = 0L;
+        for (int square : squares) {
+            bits |= 1L << square;
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,144 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 종반 완전 탐색 검사: 무작위 종반 포지션(빈 칸 10개 이하)에서 정렬/가지치기 없는 완전 탐색과 점수가 같고,
+ * 고른 수가 합법이며 그 수의 점수가 최선이어야 한다. 패스와 양쪽 모두 둘 수 없는 포지션도 확인한다.
+ */
+class EndgameSolverTest {
+
+    private static final int MAX_EMPTIES = 10;
+
+    private final EndgameSolver solver = new EndgameSolver();
+
+    @Test
+    void matchesFullWidthNegamax() {
+        Random random = new Random(20240611L);
+        List<long[]> positions = randomEndgames(random, 100);
+        int checked = 0;
+        for (int i = 0; i < positions.size(); i += 5) {
+            long player = positions.get(i)[0];
+            long opponent = positions.get(i)[1];
+            long legal = Bitboard.legalMoves(player, opponent);
+            if (legal == 0) {
+                continue;
+            }
+            // 수마다 완전 탐색한 점수 (최선 = 최댓값)
+            int[] values = new int[Bitboard.SQUARES];
+            int best = Integer.MIN_VALUE;
+            for (long moves = legal; moves != 0; moves &= moves - 1) {
+                int square = Long.numberOfTrailingZeros(moves);
+                long flipped = Bitboard.flips(player, opponent, square);
+                values[square] = -negamax(opponent & ~flipped, player | flipped | (1L << square), false);
+                best = Math.max(best, values[square]);
+            }
+
+            SearchResult result = solver.solve(player, opponent, Searcher.NO_DEADLINE);
+            assertEquals(best, result.getScore());
+            int move = result.getMove();
+            assertNotEquals(0L, legal & (1L << move));
+            assertEquals(best, values[move]);
+            checked++;
+        }
+        assertTrue(checked > 150, "checked " + checked);
+    }
+
+    @Test
+    void solvesPositionWherePlayerMustPass() {
+        Random random = new Random(7L);
+        int passes = 0;
+        for (long[] position : randomEndgames(random, 2000)) {
+            long player = position[0];
+            long opponent = position[1];
+            if (Bitboard.legalMoves(player, opponent) != 0 || Bitboard.legalMoves(opponent, player) == 0) {
+                continue;
+            }
+            SearchResult result = solver.solve(player, opponent, Searcher.NO_DEADLINE);
+            assertFalse(result.hasMove());
+            assertEquals(negamax(player, opponent, false), result.getScore());
+            passes++;
+        }
+        assertTrue(passes > 0, "no pass position generated");
+    }
+
+    @Test
+    void scoresFinishedGameWithoutMove() {
+        // 꽉 찬 보드
+        long black = 0xFFFFFFFF00000000L | 0x00000000000000FFL;
+        long white = ~black;
+        SearchResult full = solver.solve(black, white, Searcher.NO_DEADLINE);
+        assertFalse(full.hasMove());
+        assertEquals(Long.bitCount(black) - Long.bitCount(white), full.getScore());
+
+        // 빈 칸이 남았지만 양쪽 모두 둘 수 없음 (백 돌이 없음)
+        long onlyBlack = 0x0000001818000000L;
+        SearchResult stuck = solver.solve(0L, onlyBlack, Searcher.NO_DEADLINE);
+        assertFalse(stuck.hasMove());
+        assertEquals(-4, stuck.getScore());
+    }
+
+    /**
+     * 무작위 대국을 끝까지 두면서 빈 칸이 MAX_EMPTIES 이하인 포지션 (둘 차례 기준 {player, opponent})
+     */
+    private static List<long[]> randomEndgames(Random random, int games) {
+        List<long[]> positions = new ArrayList<>();
+        for (int game = 0; game < games; game++) {
+            long player = Bitboard.INITIAL_BLACK;
+            long opponent = Bitboard.INITIAL_WHITE;
+            while (!Bitboard.isGameOver(player, opponent)) {
+                if (Bitboard.SQUARES - Long.bitCount(player | opponent) <= MAX_EMPTIES) {
+                    positions.add(new long[]{player, opponent});
+                }
+                long legal = Bitboard.legalMoves(player, opponent);
+                if (legal != 0) {
+                    int square = pick(random, legal);
+                    long flipped = Bitboard.flips(player, opponent, square);
+                    player |= flipped | (1L << square);
+                    opponent &= ~flipped;
+                }
+                long next = player;
+                player = opponent;
+                opponent = next;
+            }
+        }
+        return positions;
+    }
+
+    private static int pick(Random random, long moves) {
+        int index = random.nextInt(Long.bitCount(moves));
+        for (int i = 0; i < index; i++) {
+            moves &= moves - 1;
+        }
+        return Long.numberOfTrailingZeros(moves);
+    }
+
+    /**
+     * 정렬/가지치기 없는 완전 탐색 (최종 돌 차이, 빈 칸은 세지 않음)
+     */
+    private static int negamax(long player, long opponent, boolean passed) {
+        long legal = Bitboard.legalMoves(player, opponent);
+        if (legal == 0) {
+            if (passed || Bitboard.legalMoves(opponent, player) == 0) {
+                return Long.bitCount(player) - Long.bitCount(opponent);
+            }
+            return -negamax(opponent, player, true);
+        }
+        int best = Integer.MIN_VALUE;
+        for (long moves = legal; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flipped = Bitboard.flips(player, opponent, square);
+            best = Math.max(best, -negamax(opponent & ~flipped, player | flipped | (1L << square), false));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,124 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveResultCacheTest {
+
+    private static final long KEY = 42L;
+    private static final int DIFFICULTY = 5;
+    private static final SearchResult LEADER_RESULT = new SearchResult(19, 4, DIFFICULTY, 1000);
+    private static final SearchResult LOCAL_RESULT = new SearchResult(26, 2, DIFFICULTY, 500);
+
+    private final MoveResultCache cache = new MoveResultCache(16);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLeader = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        releaseLeader.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followerSharesRunningSearch() throws Exception {
+        Future<SearchResult> leader = startLeader();
+        releaseLeaderLater();
+
+        SearchResult shared = cache.get(KEY, DIFFICULTY, deadline -> LOCAL_RESULT, result -> true,
+                new SearchCancellation(), deadlineIn(5000));
+
+        assertSame(LEADER_RESULT, shared);
+        assertSame(LEADER_RESULT, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, cache.getSharedSearches());
+    }
+
+    @Test
+    void cancelledFollowerStopsWaiting() throws Exception {
+        startLeader();
+        SearchCancellation cancellation = new SearchCancellation();
+        cancellation.cancel();
+
+        long start = System.nanoTime();
+        SearchResult result = cache.get(KEY, DIFFICULTY, deadline -> LOCAL_RESULT, r -> true, cancellation, deadlineIn(5000));
+
+        assertFalse(result.hasMove());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void followerSearchesItselfAfterDeadline() throws Exception {
+        startLeader();
+
+        SearchResult result = cache.get(KEY, DIFFICULTY, deadline -> LOCAL_RESULT, r -> true,
+                new SearchCancellation(), deadlineIn(50));
+
+        assertSame(LOCAL_RESULT, result);
+    }
+
+    @Test
+    void fallbackSearchKeepsOriginalDeadline() throws Exception {
+        startLeader();
+        long deadline = deadlineIn(100);
+        AtomicLong fallbackDeadline = new AtomicLong();
+
+        // 마감을 지키는 탐색처럼 받은 마감 시각까지 탐색
+        SearchResult result = cache.get(KEY, DIFFICULTY, searchDeadline -> {
+            fallbackDeadline.set(searchDeadline);
+            long remaining = searchDeadline - System.nanoTime();
+            if (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+            return LOCAL_RESULT;
+        }, r -> true, new SearchCancellation(), deadline);
+
+        assertSame(LOCAL_RESULT, result);
+        assertEquals(deadline, fallbackDeadline.get());
+        assertTrue(System.nanoTime() - deadline < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private Future<SearchResult> startLeader() throws InterruptedException {
+        Future<SearchResult> leader = executor.submit(() -> cache.get(KEY, DIFFICULTY, deadline -> {
+            leaderStarted.countDown();
+            try {
+                releaseLeader.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return LEADER_RESULT;
+        }, result -> true, new SearchCancellation(), deadlineIn(5000)));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        return leader;
+    }
+
+    private void releaseLeaderLater() {
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            releaseLeader.countDown();
+        });
+        releaser.setDaemon(true);
+        releaser.start();
+    }
+
+    private static long deadlineIn(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
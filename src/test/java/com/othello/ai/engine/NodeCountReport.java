@@ -0,0 +1,57 @@
+package com.othello.ai.engine;
+
+/**
+ * 고정 포지션 모음에 대한 탐색 비교 도구
+ * 1) 수 정렬 사용 전/후의 노드 수 (알파-베타 기준)
+ * 2) 탐색 방식(알파-베타, PVS, MTD(f))별 노드 수, 시간, 점수
+ * 사용법: mvn test-compile 후 java -cp target/classes:target/test-classes com.othello.ai.engine.NodeCountReport [depth]
+ */
+public final class NodeCountReport {
+
+    private NodeCountReport() {
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        Evaluator evaluator = new HeuristicEvaluator();
+
+        System.out.println("== move ordering (alpha-beta, depth " + depth + ")");
+        long totalBefore = 0;
+        long totalAfter = 0;
+        System.out.printf("%-12s %14s %14s %8s%n", "position", "unordered", "ordered", "ratio");
+        for (PositionSuite.Position position : PositionSuite.all()) {
+            long before = run(evaluator, position, depth, SearchAlgorithm.ALPHA_BETA, false).getNodes();
+            long after = run(evaluator, position, depth, SearchAlgorithm.ALPHA_BETA, true).getNodes();
+            totalBefore += before;
+            totalAfter += after;
+            System.out.printf("%-12s %14d %14d %8.2f%n", position.getName(), before, after, (double) after / before);
+        }
+        System.out.printf("%-12s %14d %14d %8.2f%n", "total", totalBefore, totalAfter, (double) totalAfter / totalBefore);
+
+        System.out.println();
+        System.out.println("== search algorithm (ordered, depth " + depth + ")");
+        for (SearchAlgorithm algorithm : SearchAlgorithm.values()) {
+            long nodes = 0;
+            long nanos = 0;
+            StringBuilder scores = new StringBuilder();
+            for (PositionSuite.Position position : PositionSuite.all()) {
+                long start = System.nanoTime();
+                Searcher searcher = run(evaluator, position, depth, algorithm, true);
+                nanos += System.nanoTime() - start;
+                nodes += searcher.getNodes();
+                scores.append(' ').append(searcher.getBestScore());
+            }
+            System.out.printf("%-12s nodes=%-12d ms=%-8d scores:%s%n", algorithm, nodes, nanos / 1_000_000, scores);
+        }
+    }
+
+    private static Searcher run(Evaluator evaluator, PositionSuite.Position position, int depth,
+                                SearchAlgorithm algorithm, boolean ordering) {
+        // 포지션마다 빈 테이블로 시작해 서로 영향을 주지 않도록 한다
+        Searcher searcher = new Searcher(evaluator, new TranspositionTable(16));
+        searcher.setAlgorithm(algorithm);
+        searcher.setMoveOrdering(ordering);
+        searcher.search(position.player(), position.opponent(), position.isBlackToMove(), depth);
+        return searcher;
+    }
+}
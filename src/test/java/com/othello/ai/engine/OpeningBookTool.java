@@ -0,0 +1,51 @@
+package com.othello.ai.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 오프닝 북 파일 생성 (OpeningBookBuilder 실행)
+ * 기보 파일: 한 줄에 한 게임, 좌표 표기 수순 (예: f5d6c3d3c4, 열 a~h, 행 1~8). 패스는 생략한다.
+ * 사용법: mvn test-compile 후 java -cp target/classes:target/test-classes com.othello.ai.engine.OpeningBookTool
+ *         출력파일 [maxPlies=12] [treePlies=6] [depth=10] [기보파일]
+ */
+public final class OpeningBookTool {
+
+    private OpeningBookTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("usage: OpeningBookTool <output> [maxPlies=12] [treePlies=6] [depth=10] [games.txt]");
+            return;
+        }
+        Path output = Paths.get(args[0]);
+        int maxPlies = args.length > 1 ? Integer.parseInt(args[1]) : 12;
+        int treePlies = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        int depth = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(maxPlies, depth);
+        builder.addAllOpenings(treePlies);
+        System.out.println("positions up to ply " + treePlies + ": " + builder.size());
+        if (args.length > 4) {
+            int games = 0;
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[4]), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        builder.addGame(line);
+                        games++;
+                    }
+                }
+            }
+            System.out.println("games: " + games + ", positions: " + builder.size());
+        }
+
+        builder.write(output, new PatternEvaluator(PatternWeights.generateDefault()));
+        System.out.println("Wrote " + Files.size(output) + " bytes to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,102 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 비트 연산 인덱스 검사: 패턴마다, 방향마다 PatternEvaluator가 읽는 인덱스가
+ * 칸 하나씩 계산한 Pattern.index(방향 변환한 보드)와 같아야 하고, 대칭인 포지션의 평가는 모두 같아야 한다.
+ */
+class PatternEvaluatorTest {
+
+    @Test
+    void fastIndicesMatchReferenceForEveryPatternAndOrientation() {
+        PatternWeights weights = PatternWeights.generateDefault();
+        PatternEvaluator evaluator = new PatternEvaluator(weights);
+        for (int phase = 0; phase < weights.getPhases(); phase++) {
+            Arrays.fill(weights.features(phase), (short) 0);
+            for (short[] table : weights.tables(phase)) {
+                Arrays.fill(table, (short) 0);
+            }
+        }
+
+        // 테이블 전체에 가중치를 두면 평가값이 그 패턴을 읽는 방향 수
+        for (Pattern pattern : Pattern.values()) {
+            short[] table = weights.tables(0)[pattern.ordinal()];
+            Arrays.fill(table, (short) PatternWeights.SCALE);
+            assertEquals(pattern.getOrientations(), evaluator.evaluate(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE),
+                    pattern.toString());
+            Arrays.fill(table, (short) 0);
+        }
+
+        for (long[] position : randomPositions(new Random(12L), 30)) {
+            long player = position[0];
+            long opponent = position[1];
+            short[][] tables = weights.tables(weights.phase(Long.bitCount(player | opponent)));
+            for (Pattern pattern : Pattern.values()) {
+                short[] table = tables[pattern.ordinal()];
+                int[] expected = new int[pattern.getOrientations()];
+                for (int orientation = 0; orientation < expected.length; orientation++) {
+                    expected[orientation] = pattern.index(Symmetry.transform(player, orientation),
+                            Symmetry.transform(opponent, orientation));
+                }
+                // 테이블의 한 칸에만 가중치를 두면 평가값이 그 인덱스를 읽은 방향 수
+                for (int index : expected) {
+                    table[index] = PatternWeights.SCALE;
+                    long count = Arrays.stream(expected).filter(i -> i == index).count();
+                    assertEquals(count, evaluator.evaluate(player, opponent), pattern + " index " + index);
+                    table[index] = 0;
+                }
+            }
+        }
+    }
+
+    @Test
+    void evaluationIsSymmetric() {
+        PatternEvaluator evaluator = new PatternEvaluator(PatternWeights.generateDefault());
+        for (long[] position : randomPositions(new Random(21L), 100)) {
+            long player = position[0];
+            long opponent = position[1];
+            int expected = evaluator.evaluate(player, opponent);
+            for (int orientation = 1; orientation < Symmetry.ORIENTATIONS; orientation++) {
+                assertEquals(expected, evaluator.evaluate(Symmetry.transform(player, orientation),
+                        Symmetry.transform(opponent, orientation)), "orientation " + orientation);
+            }
+        }
+    }
+
+    /**
+     * 무작위 대국의 모든 포지션 (둘 차례 기준 {player, opponent})
+     */
+    private static List<long[]> randomPositions(Random random, int games) {
+        List<long[]> positions = new ArrayList<>();
+        for (int game = 0; game < games; game++) {
+            long player = Bitboard.INITIAL_BLACK;
+            long opponent = Bitboard.INITIAL_WHITE;
+            while (!Bitboard.isGameOver(player, opponent)) {
+                positions.add(new long[]{player, opponent});
+                long legal = Bitboard.legalMoves(player, opponent);
+                if (legal != 0) {
+                    int index = random.nextInt(Long.bitCount(legal));
+                    for (int i = 0; i < index; i++) {
+                        legal &= legal - 1;
+                    }
+                    int square = Long.numberOfTrailingZeros(legal);
+                    long flipped = Bitboard.flips(player, opponent, square);
+                    player |= flipped | (1L << square);
+                    opponent &= ~flipped;
+                }
+                long next = player;
+                player = opponent;
+                opponent = next;
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,25 @@
+package com.othello.ai.engine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 기본 패턴 가중치 테이블을 파일로 저장
+ * 사용법: mvn test-compile 후 java -cp target/classes:target/test-classes com.othello.ai.engine.PatternWeightsTool [출력 파일]
+ */
+public final class PatternWeightsTool {
+
+    private PatternWeightsTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "pattern-weights.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            PatternWeights.generateDefault().write(out);
+        }
+        System.out.println("Wrote " + Files.size(path) + " bytes to " + path.toAbsolutePath());
+    }
+}
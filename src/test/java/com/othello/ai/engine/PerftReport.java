@@ -0,0 +1,35 @@
+package com.othello.ai.engine;
+
+/**
+ * perft 깊이별 노드 수와 처리량 출력 (기준값 비교는 PerftTest가 빌드 때 수행)
+ * 사용법: mvn test-compile 후
+ * java -cp target/classes:target/test-classes com.othello.ai.engine.PerftReport [maxDepth] [threads]
+ */
+public final class PerftReport {
+
+    private PerftReport() {
+    }
+
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        boolean failed = false;
+
+        System.out.printf("%-6s %14s %14s %-8s %10s %14s%n", "depth", "nodes", "expected", "result", "ms", "nodes/s");
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            long start = System.nanoTime();
+            long nodes = Perft.perft(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE, depth, threads);
+            long nanos = Math.max(1, System.nanoTime() - start);
+
+            boolean known = depth < PerftTest.REFERENCE.length;
+            String expected = known ? String.valueOf(PerftTest.REFERENCE[depth]) : "-";
+            String result = known ? (nodes == PerftTest.REFERENCE[depth] ? "OK" : "MISMATCH") : "-";
+            failed |= "MISMATCH".equals(result);
+            System.out.printf("%-6d %14d %14s %-8s %10d %14.0f%n",
+                    depth, nodes, expected, result, nanos / 1_000_000, nodes * 1e9 / nanos);
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
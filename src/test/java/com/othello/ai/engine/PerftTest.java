@@ -0,0 +1,30 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 수 생성기 회귀 검사: 초기 포지션의 깊이별 말단 노드 수가 알려진 값과 같아야 한다
+ */
+class PerftTest {
+
+    // 초기 포지션 기준 깊이별 말단 노드 수 (인덱스 = 깊이)
+    static final long[] REFERENCE = {
+            1L, 4L, 12L, 56L, 244L, 1_396L, 8_200L, 55_092L, 390_216L,
+            3_005_288L, 24_571_284L, 212_258_800L
+    };
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9})
+    void singleThreaded(int depth) {
+        assertEquals(REFERENCE[depth], Perft.perft(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE, depth));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9})
+    void multiThreaded(int depth) {
+        assertEquals(REFERENCE[depth], Perft.perft(Bitboard.INITIAL_BLACK, Bitboard.INITIAL_WHITE, depth, 4));
+    }
+}
@@ -0,0 +1,83 @@
+package com.othello.ai.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 탐색/엔진 성능 측정용 고정 포지션 모음 (초반, 중반, 종반)
+ * 모든 포지션은 둘 차례인 쪽에 둘 수 있는 수가 있다.
+ */
+public final class PositionSuite {
+
+    public static final List<Position> OPENING = List.of(
+            new Position("opening-52", "                  WB       WB     WWBB      WB       W        W ", 'B'),
+            new Position("opening-51", "         B        BB       BB     WWBB      WB       W        W ", 'W'),
+            new Position("opening-50", "     W       WB     BWW   BBBW     BWW       W                  ", 'B'),
+            new Position("opening-48", "           WWW    BBW      BWW    WBWWW     B        B          ", 'B')
+    );
+
+    public static final List<Position> MIDGAME = List.of(
+            new Position("midgame-40", "  W   W    W W    BBW B  WWBWBB  WBWB B   W WB B W              ", 'B'),
+            new Position("midgame-36", "          W WB W   WBBWB  BBWWB BBBBWB    BBBWBW      WB        ", 'B'),
+            new Position("midgame-33", "        W  W  BWWW WWBB  WWBBWB  BWBW B  BBBBBB   W WW        W ", 'W'),
+            new Position("midgame-32", "         W       BWBW      WW B BBWBWWB  BWBWBW  BBWW BWWBBBW   ", 'B'),
+            new Position("midgame-28", "W  W  WW WBW WW   WBWBW  WWWWB  BBWBB    WWWBWWW    W W    WWW  ", 'B'),
+            new Position("midgame-24", "   W       WWW     WWW  B BWBW  WBWWBWWBWWWWBBWBWBBBB BB  BBBB B", 'B')
+    );
+
+    public static final List<Position> ENDGAME = List.of(
+            new Position("endgame-19", "WWWWWWW WWWW W  WWWWWB  WWWWBBB WWWBBB  BBBBB B   WBWW B  B W B ", 'W'),
+            new Position("endgame-16", "  WWWWBB W BWBWBWWWWWWWB WBWWW BB WBWBBBBBWBBBBW  WB   W WWB   W", 'B'),
+            new Position("endgame-14", "BBBBW   B BB W W BWBWWWB  BWWWW WBBBBWWBBWBWWWWB  BBWBBB B BBBBB", 'B'),
+            new Position("endgame-12", "WWW BB  W B BBW BBBBBW BBBWBWBWWBBBWBB WBBWWWWBW BBBBW  WWWWWWW ", 'B'),
+            new Position("endgame-10", "WWWWWWWWBBBWBB   BBBBWWW WBWWWWB WBWBWWBBWWBWBWB WB BWW  W BBWWB", 'B'),
+            new Position("endgame-7", "WWWWWWWWWWWBBBBBWWBWBWB WBWBWBWWWBWWWWB WWBBBBWBWWBB B WWW B BW ", 'W')
+    );
+
+    private PositionSuite() {
+    }
+
+    public static List<Position> all() {
+        List<Position> all = new ArrayList<>(OPENING);
+        all.addAll(MIDGAME);
+        all.addAll(ENDGAME);
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * 보드 문자열 + 둘 차례로 표현한 포지션
+     */
+    public static final class Position {
+
+        private final String name;
+        private final String boardState;
+        private final char turn;
+
+        public Position(String name, String boardState, char turn) {
+            this.name = name;
+            this.boardState = boardState;
+            this.turn = turn;
+        }
+
+        public String getName() { return name; }
+        public String getBoardState() { return boardState; }
+        public char getTurn() { return turn; }
+
+        public boolean isBlackToMove() {
+            return turn == Bitboard.BLACK;
+        }
+
+        public long player() {
+            return Bitboard.fromString(boardState, turn);
+        }
+
+        public long opponent() {
+            return Bitboard.fromString(boardState, Bitboard.opponent(turn));
+        }
+
+        public int empties() {
+            return Bitboard.SQUARES - Long.bitCount(player() | opponent());
+        }
+    }
+}
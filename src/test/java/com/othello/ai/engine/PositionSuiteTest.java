@@ -0,0 +1,65 @@
+package com.othello.ai.engine;
+
+import com.othello.ai.service.OthelloGameEngine;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 벤치마크(jmh)가 쓰는 고정 포지션 검사
+ * 포지션 형식과 이름의 빈 칸 수, 그리고 벤치마크가 비교하는 두 구현(문자열 엔진, 비트보드)이
+ * 같은 합법수와 같은 결과 보드를 내는지 확인한다.
+ */
+class PositionSuiteTest {
+
+    private final OthelloGameEngine engine = new OthelloGameEngine();
+
+    static List<PositionSuite.Position> positions() {
+        return PositionSuite.all();
+    }
+
+    @ParameterizedTest
+    @MethodSource("positions")
+    void wellFormed(PositionSuite.Position position) {
+        assertTrue(position.getBoardState().matches("[ BW]{64}"), position.getName());
+        assertTrue(position.getTurn() == Bitboard.BLACK || position.getTurn() == Bitboard.WHITE);
+        assertNotEquals(0L, Bitboard.legalMoves(position.player(), position.opponent()), position.getName());
+
+        String name = position.getName();
+        int empties = Integer.parseInt(name.substring(name.lastIndexOf('-') + 1));
+        assertEquals(empties, position.empties(), name);
+    }
+
+    @ParameterizedTest
+    @MethodSource("positions")
+    void bitboardMatchesStringEngine(PositionSuite.Position position) {
+        String board = position.getBoardState();
+        char turn = position.getTurn();
+        long player = position.player();
+        long opponent = position.opponent();
+
+        long expected = 0L;
+        for (int[] move : engine.getValidMoves(board, turn)) {
+            expected |= 1L << Bitboard.square(move[0], move[1]);
+        }
+        long legal = Bitboard.legalMoves(player, opponent);
+        assertEquals(expected, legal, position.getName());
+
+        for (long moves = legal; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flipped = Bitboard.flips(player, opponent, square);
+            long nextPlayer = player | flipped | (1L << square);
+            long nextOpponent = opponent & ~flipped;
+            String next = position.isBlackToMove()
+                    ? Bitboard.toString(nextPlayer, nextOpponent)
+                    : Bitboard.toString(nextOpponent, nextPlayer);
+            assertEquals(engine.makeMove(board, Bitboard.row(square), Bitboard.col(square), turn), next,
+                    position.getName() + " " + square);
+        }
+    }
+}
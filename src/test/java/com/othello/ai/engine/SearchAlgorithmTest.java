@@ -0,0 +1,43 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 탐색 방식 회귀 검사: 같은 깊이에서 알파-베타, PVS, MTD(f)가 고정 포지션마다 같은 점수를 내야 한다
+ */
+class SearchAlgorithmTest {
+
+    private static final int DEPTH = 6;
+
+    private final Evaluator evaluator = new HeuristicEvaluator();
+
+    static List<PositionSuite.Position> positions() {
+        return PositionSuite.all();
+    }
+
+    @ParameterizedTest
+    @MethodSource("positions")
+    void sameScoreForEveryAlgorithm(PositionSuite.Position position) {
+        int expected = search(position, SearchAlgorithm.ALPHA_BETA).getBestScore();
+        for (SearchAlgorithm algorithm : SearchAlgorithm.values()) {
+            Searcher searcher = search(position, algorithm);
+            assertEquals(expected, searcher.getBestScore(), position.getName() + " " + algorithm);
+            long legal = Bitboard.legalMoves(position.player(), position.opponent());
+            assertNotEquals(0L, legal & (1L << searcher.getBestMove()), position.getName() + " " + algorithm);
+        }
+    }
+
+    private Searcher search(PositionSuite.Position position, SearchAlgorithm algorithm) {
+        // 포지션, 방식마다 빈 테이블로 시작해 서로 영향을 주지 않도록 한다
+        Searcher searcher = new Searcher(evaluator, new TranspositionTable(16));
+        searcher.setAlgorithm(algorithm);
+        searcher.search(position.player(), position.opponent(), position.isBlackToMove(), DEPTH);
+        return searcher;
+    }
+}
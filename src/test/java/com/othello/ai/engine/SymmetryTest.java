@@ -0,0 +1,128 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대칭 변환 검사: 역변환으로 원래 보드가 되돌아오고, 칸 변환표가 비트보드 변환과 같으며,
+ * 정규화 보드에서 구한 수를 되돌리면 원래 보드의 합법 수가 된다.
+ */
+class SymmetryTest {
+
+    @Test
+    void inverseRestoresOriginal() {
+        Random random = new Random(15L);
+        for (int i = 0; i < 1000; i++) {
+            long bits = random.nextLong();
+            for (int orientation = 0; orientation < Symmetry.ORIENTATIONS; orientation++) {
+                long transformed = Symmetry.transform(bits, orientation);
+                assertEquals(Long.bitCount(bits), Long.bitCount(transformed));
+                assertEquals(bits, Symmetry.transform(transformed, Symmetry.inverse(orientation)),
+                        "orientation " + orientation);
+            }
+        }
+        for (int orientation = 0; orientation < Symmetry.ORIENTATIONS; orientation++) {
+            for (int square = 0; square < Bitboard.SQUARES; square++) {
+                int transformed = Symmetry.transformSquare(square, orientation);
+                assertEquals(square, Symmetry.transformSquare(transformed, Symmetry.inverse(orientation)));
+            }
+        }
+    }
+
+    @Test
+    void transformSquareMatchesBitboardTransform() {
+        for (int orientation = 0; orientation < Symmetry.ORIENTATIONS; orientation++) {
+            long image = 0;
+            for (int square = 0; square < Bitboard.SQUARES; square++) {
+                int transformed = Symmetry.transformSquare(square, orientation);
+                assertEquals(1L << transformed, Symmetry.transform(1L << square, orientation));
+                image |= 1L << transformed;
+            }
+            // 칸 변환은 64칸의 순열
+            assertEquals(-1L, image);
+        }
+
+        // 여러 칸짜리 보드도 칸마다 옮긴 것과 같음
+        Random random = new Random(16L);
+        for (int i = 0; i < 1000; i++) {
+            long bits = random.nextLong();
+            int orientation = random.nextInt(Symmetry.ORIENTATIONS);
+            long expected = 0;
+            for (long rest = bits; rest != 0; rest &= rest - 1) {
+                expected |= 1L << Symmetry.transformSquare(Long.numberOfTrailingZeros(rest), orientation);
+            }
+            assertEquals(expected, Symmetry.transform(bits, orientation));
+        }
+    }
+
+    @Test
+    void canonicalMovesMapBackToLegalMoves() {
+        int checked = 0;
+        for (long[] position : randomPositions(new Random(17L), 200)) {
+            long black = position[0];
+            long white = position[1];
+            boolean blackToMove = position[2] != 0;
+            long me = blackToMove ? black : white;
+            long opponent = blackToMove ? white : black;
+
+            Symmetry.Canonical canonical = Symmetry.canonicalize(black, white);
+            long canonicalMe = blackToMove ? canonical.getBlack() : canonical.getWhite();
+            long canonicalOpponent = blackToMove ? canonical.getWhite() : canonical.getBlack();
+
+            long mapped = 0;
+            for (long moves = Bitboard.legalMoves(canonicalMe, canonicalOpponent); moves != 0; moves &= moves - 1) {
+                int square = canonical.fromCanonical(Long.numberOfTrailingZeros(moves));
+                mapped |= 1L << square;
+                assertEquals(canonical.toCanonical(square), Long.numberOfTrailingZeros(moves));
+            }
+            assertEquals(Bitboard.legalMoves(me, opponent), mapped);
+
+            // 대칭인 포지션은 모두 같은 정규화 키
+            long key = canonical.key(blackToMove);
+            for (int orientation = 1; orientation < Symmetry.ORIENTATIONS; orientation++) {
+                assertEquals(key, Symmetry.canonicalKey(Symmetry.transform(black, orientation),
+                        Symmetry.transform(white, orientation), blackToMove));
+            }
+            checked++;
+        }
+        assertTrue(checked > 1000, "checked " + checked);
+    }
+
+    /**
+     * 무작위 대국의 모든 포지션 {흑, 백, 흑 차례면 1}
+     */
+    private static List<long[]> randomPositions(Random random, int games) {
+        List<long[]> positions = new ArrayList<>();
+        for (int game = 0; game < games; game++) {
+            long black = Bitboard.INITIAL_BLACK;
+            long white = Bitboard.INITIAL_WHITE;
+            boolean blackToMove = true;
+            while (!Bitboard.isGameOver(black, white)) {
+                positions.add(new long[]{black, white, blackToMove ? 1 : 0});
+                long me = blackToMove ? black : white;
+                long opponent = blackToMove ? white : black;
+                long legal = Bitboard.legalMoves(me, opponent);
+                if (legal != 0) {
+                    int index = random.nextInt(Long.bitCount(legal));
+                    for (int i = 0; i < index; i++) {
+                        legal &= legal - 1;
+                    }
+                    int square = Long.numberOfTrailingZeros(legal);
+                    long flipped = Bitboard.flips(me, opponent, square);
+                    me |= flipped | (1L << square);
+                    opponent &= ~flipped;
+                    black = blackToMove ? me : opponent;
+                    white = blackToMove ? opponent : me;
+                }
+                blackToMove = !blackToMove;
+            }
+        }
+        return positions;
+    }
+}
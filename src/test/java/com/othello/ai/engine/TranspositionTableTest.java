@@ -0,0 +1,68 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranspositionTableTest {
+
+    private static final long KEY = 0x123456789ABCDEFL;
+
+    @Test
+    void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(KEY, 7, TranspositionTable.BOUND_LOWER, -123, 42);
+
+        long data = table.probe(KEY);
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(data));
+        assertEquals(-123, TranspositionTable.score(data));
+        assertEquals(42, TranspositionTable.move(data));
+        assertEquals(0L, table.probe(KEY + 1));
+    }
+
+    @Test
+    void keepsDeeperEntryOfCurrentSearchUntilNextSearch() {
+        TranspositionTable table = new TranspositionTable(1);
+        long colliding = KEY + table.getCapacity();
+        table.newSearch();
+        table.store(KEY, 8, TranspositionTable.BOUND_EXACT, 10, 1);
+
+        table.store(colliding, 3, TranspositionTable.BOUND_EXACT, 20, 2);
+        assertEquals(10, TranspositionTable.score(table.probe(KEY)));
+        assertEquals(0L, table.probe(colliding));
+
+        table.newSearch();
+        table.store(colliding, 3, TranspositionTable.BOUND_EXACT, 20, 2);
+        assertEquals(0L, table.probe(KEY));
+        assertEquals(20, TranspositionTable.score(table.probe(colliding)));
+    }
+
+    @Test
+    void countsOnlyWhenStatsEnabled() {
+        TranspositionTable quiet = new TranspositionTable(1);
+        quiet.store(KEY, 1, TranspositionTable.BOUND_EXACT, 0, 0);
+        quiet.probe(KEY);
+        assertFalse(quiet.isStatsEnabled());
+        assertEquals(0L, quiet.getProbes());
+        assertEquals(0L, quiet.getStores());
+
+        TranspositionTable counted = new TranspositionTable(1, true);
+        counted.store(KEY, 1, TranspositionTable.BOUND_EXACT, 0, 0);
+        counted.probe(KEY);
+        counted.probe(KEY + 1);
+        assertTrue(counted.isStatsEnabled());
+        assertEquals(2L, counted.getProbes());
+        assertEquals(1L, counted.getHits());
+        assertEquals(1L, counted.getStores());
+        assertEquals(0.5, counted.getHitRate());
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+}
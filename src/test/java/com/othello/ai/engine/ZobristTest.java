@@ -0,0 +1,66 @@
+package com.othello.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 증분 키 검사: 무작위 대국의 매 수(패스 포함)마다 afterMove/afterPass로 갱신한 키가 전체 계산한 키와 같아야 한다.
+ */
+class ZobristTest {
+
+    @Test
+    void incrementalKeyMatchesFullHashAlongRandomGames() {
+        Random random = new Random(3L);
+        int passes = 0;
+        for (int game = 0; game < 500; game++) {
+            long black = Bitboard.INITIAL_BLACK;
+            long white = Bitboard.INITIAL_WHITE;
+            boolean blackToMove = true;
+            long key = Zobrist.hash(black, white, true);
+            int ply = 0;
+            while (!Bitboard.isGameOver(black, white)) {
+                long me = blackToMove ? black : white;
+                long opponent = blackToMove ? white : black;
+                long legal = Bitboard.legalMoves(me, opponent);
+                if (legal == 0) {
+                    key = Zobrist.afterPass(key);
+                    passes++;
+                } else {
+                    int index = random.nextInt(Long.bitCount(legal));
+                    for (int i = 0; i < index; i++) {
+                        legal &= legal - 1;
+                    }
+                    int square = Long.numberOfTrailingZeros(legal);
+                    long flipped = Bitboard.flips(me, opponent, square);
+                    key = Zobrist.afterMove(key, blackToMove, square, flipped);
+                    me |= flipped | (1L << square);
+                    opponent &= ~flipped;
+                    black = blackToMove ? me : opponent;
+                    white = blackToMove ? opponent : me;
+                }
+                blackToMove = !blackToMove;
+                ply++;
+                assertEquals(Zobrist.hash(black, white, blackToMove), key, "game " + game + ", ply " + ply);
+            }
+        }
+        assertTrue(passes > 0, "no pass played");
+    }
+
+    @Test
+    void flipMatchesPerSquareKeys() {
+        Random random = new Random(4L);
+        for (int i = 0; i < 1000; i++) {
+            long flipped = random.nextLong() & random.nextLong();
+            long expected = 0L;
+            for (long rest = flipped; rest != 0; rest &= rest - 1) {
+                int square = Long.numberOfTrailingZeros(rest);
+                expected ^= Zobrist.place(true, square) ^ Zobrist.place(false, square);
+            }
+            assertEquals(expected, Zobrist.flip(flipped));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.othello.ai.listener;
+
+import com.othello.ai.service.GameRoomService;
+import com.othello.ai.service.UserSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 같은 사용자의 세션이 여럿일 때 마지막 세션이 끊겨야 방의 연결 끊김 처리를 하는지 검사
+ */
+class WebSocketEventListenerTest {
+
+    private static final Long USER_ID = 5L;
+
+    private GameRoomService gameRoomService;
+    private WebSocketEventListener listener;
+    // 세션마다 STOMP 세션 속성 (연결 때 넣은 userId를 끊길 때 읽음)
+    private final Map<String, Map<String, Object>> sessionAttributes = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        gameRoomService = mock(GameRoomService.class);
+        listener = new WebSocketEventListener(gameRoomService, new UserSessionRegistry());
+    }
+
+    @Test
+    void disconnectingOneOfTwoSessionsKeepsRooms() {
+        connect("tab-1");
+        connect("tab-2");
+
+        disconnect("tab-1");
+
+        verify(gameRoomService, never()).handleUserDisconnect(anyLong());
+    }
+
+    @Test
+    void disconnectingLastSessionHandlesDisconnect() {
+        connect("tab-1");
+        connect("tab-2");
+
+        disconnect("tab-2");
+        disconnect("tab-1");
+
+        verify(gameRoomService, times(1)).handleUserDisconnect(USER_ID);
+    }
+
+    @Test
+    void sessionWithoutUserIdIsIgnored() {
+        Map<String, Object> attributes = new HashMap<>();
+        sessionAttributes.put("anonymous", attributes);
+        listener.handleWebSocketConnectListener(new SessionConnectEvent(this, message("anonymous", null)));
+
+        disconnect("anonymous");
+
+        verify(gameRoomService, never()).handleUserDisconnect(anyLong());
+    }
+
+    private void connect(String sessionId) {
+        sessionAttributes.put(sessionId, new HashMap<>());
+        listener.handleWebSocketConnectListener(new SessionConnectEvent(this, message(sessionId, USER_ID.toString())));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(sessionAttributes.get(sessionId));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        listener.handleWebSocketDisconnectListener(
+                new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+    }
+
+    private Message<byte[]> message(String sessionId, String userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(sessionAttributes.get(sessionId));
+        if (userId != null) {
+            accessor.setNativeHeader("userId", userId);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,127 @@
+package com.othello.ai.service;
+
+import com.othello.ai.config.GameProperties;
+import com.othello.ai.dto.GameStateDto;
+import com.othello.ai.entity.GameRoom;
+import com.othello.ai.entity.OthelloGameData;
+import com.othello.ai.entity.User;
+import com.othello.ai.repository.GameHistoryRepository;
+import com.othello.ai.repository.GameRoomRepository;
+import com.othello.ai.repository.OthelloGameDataRepository;
+import com.othello.ai.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수 처리의 버전 확인 (재전송, 지난 수, 게임을 끝낸 수의 재전송)
+ */
+class GameRoomServiceTest {
+
+    private static final Long ROOM_ID = 3L;
+    private static final Long HOST_ID = 1L;     // 흑
+    private static final Long GUEST_ID = 2L;    // 백
+
+    private final OthelloGameEngine engine = new OthelloGameEngine();
+    private final GameRoom room = new GameRoom();
+    private GameStateStore gameStateStore;
+    private GameRoomService service;
+
+    @AfterEach
+    void tearDown() {
+        gameStateStore.shutdown();
+    }
+
+    @Test
+    void duplicateMoveReturnsAppliedResult() {
+        setUp(engine.getInitialBoardState());
+
+        GameStateDto applied = service.makeMove(ROOM_ID, 2, 3, null, null, 0L, HOST_ID);
+        GameStateDto retried = service.makeMove(ROOM_ID, 2, 3, null, null, 0L, HOST_ID);
+
+        assertEquals(1L, applied.getVersion());
+        assertEquals(applied.getVersion(), retried.getVersion());
+        assertEquals(applied.getBoardState(), retried.getBoardState());
+        assertEquals("W", retried.getTurn());
+        assertEquals(1L, service.getGameState(ROOM_ID).getVersion());
+    }
+
+    @Test
+    void staleMoveReturnsCurrentStateWithoutApplying() {
+        setUp(engine.getInitialBoardState());
+        GameStateDto current = service.makeMove(ROOM_ID, 2, 3, null, null, 0L, HOST_ID);
+
+        // 백이 흑의 수를 보기 전 버전으로 둔 수
+        GameStateDto stale = service.makeMove(ROOM_ID, 4, 5, null, null, 0L, GUEST_ID);
+
+        assertEquals(current.getVersion(), stale.getVersion());
+        assertEquals(current.getBoardState(), stale.getBoardState());
+        assertEquals("PLAYING", stale.getStatus());
+    }
+
+    @Test
+    void retriedFinalMoveReturnsFinishedState() {
+        // 흑이 마지막 칸(7,7)에 두면 (7,6)의 백을 뒤집고 게임이 끝남
+        setUp("B".repeat(62) + "W ");
+
+        GameStateDto finished = service.makeMove(ROOM_ID, 7, 7, null, null, 0L, HOST_ID);
+        assertEquals("FINISHED", finished.getStatus());
+        assertEquals("B", finished.getWinner());
+
+        GameStateDto retried = service.makeMove(ROOM_ID, 7, 7, null, null, 0L, HOST_ID);
+        assertEquals("FINISHED", retried.getStatus());
+        assertTrue(retried.getIsGameOver());
+        assertEquals("B", retried.getWinner());
+        assertEquals(finished.getVersion(), retried.getVersion());
+        assertEquals(finished.getBoardState(), retried.getBoardState());
+
+        // 끝난 게임의 현재 버전으로 새로 두는 수는 거절
+        assertThrows(IllegalStateException.class,
+                () -> service.makeMove(ROOM_ID, 0, 0, null, null, finished.getVersion(), HOST_ID));
+    }
+
+    private void setUp(String boardState) {
+        User host = user(HOST_ID, "host");
+        User guest = user(GUEST_ID, "guest");
+        room.setId(ROOM_ID);
+        room.setHost(host);
+        room.setGuest(guest);
+        room.setStatus(GameRoom.RoomStatus.PLAYING);
+        OthelloGameData data = new OthelloGameData(room, boardState, "B");
+        data.setId(30L);
+
+        GameRoomRepository rooms = mock(GameRoomRepository.class);
+        OthelloGameDataRepository games = mock(OthelloGameDataRepository.class);
+        when(rooms.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(rooms.existsById(ROOM_ID)).thenReturn(true);
+        when(rooms.save(any(GameRoom.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(games.findByRoom(room)).thenReturn(Optional.of(data));
+        when(games.save(any(OthelloGameData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        GameProperties properties = new GameProperties();
+        properties.getState().setFlushIntervalMs(60_000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        gameStateStore = new GameStateStore(rooms, games, transactionTemplate, properties);
+        service = new GameRoomService(rooms, games, mock(UserRepository.class), mock(GameHistoryRepository.class),
+                mock(SimpMessagingTemplate.class), engine, gameStateStore, transactionTemplate, properties,
+                new UserSessionRegistry(), mock(LobbyService.class));
+    }
+
+    private static User user(Long id, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        return user;
+    }
+}
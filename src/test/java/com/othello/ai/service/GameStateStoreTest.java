@@ -0,0 +1,94 @@
+package com.othello.ai.service;
+
+import com.othello.ai.config.GameProperties;
+import com.othello.ai.entity.GameRoom;
+import com.othello.ai.entity.OthelloGameData;
+import com.othello.ai.entity.User;
+import com.othello.ai.repository.GameRoomRepository;
+import com.othello.ai.repository.OthelloGameDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameStateStoreTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    private GameStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        User host = new User();
+        host.setId(1L);
+        GameRoom room = new GameRoom();
+        room.setId(ROOM_ID);
+        room.setHost(host);
+        room.setStatus(GameRoom.RoomStatus.PLAYING);
+        OthelloGameData data = new OthelloGameData(room, "board", "B");
+        data.setId(11L);
+
+        GameRoomRepository rooms = mock(GameRoomRepository.class);
+        OthelloGameDataRepository games = mock(OthelloGameDataRepository.class);
+        when(rooms.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(games.findByRoom(room)).thenReturn(Optional.of(data));
+
+        GameProperties properties = new GameProperties();
+        properties.getState().setFlushIntervalMs(60_000);
+        store = new GameStateStore(rooms, games, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        store.shutdown();
+    }
+
+    @Test
+    void restoresEvictedGameWhenTransactionRollsBack() {
+        LiveGame game = store.get(ROOM_ID);
+        assertNotNull(game);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertSame(game, store.peek(ROOM_ID));
+    }
+
+    @Test
+    void keepsGameEvictedWhenTransactionCommits() {
+        assertNotNull(store.get(ROOM_ID));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertNull(store.peek(ROOM_ID));
+    }
+
+    /**
+     * 트랜잭션 안에서 내리고 주어진 결과로 트랜잭션을 끝냄
+     */
+    private void complete(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        store.evict(ROOM_ID);
+        assertNull(store.peek(ROOM_ID));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
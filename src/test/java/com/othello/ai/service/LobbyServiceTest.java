@@ -0,0 +1,187 @@
+package com.othello.ai.service;
+
+import com.othello.ai.dto.LobbyEventDto;
+import com.othello.ai.dto.RoomDto;
+import com.othello.ai.entity.GameRoom;
+import com.othello.ai.entity.User;
+import com.othello.ai.repository.GameRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로비 피드 검사: 처음 목록, 변경분 버전이 빠짐없이 이어지는지, 변경분을 목록에 적용하면 서버 목록과 같은지,
+ * 다시 대기 중이 된 방이 DB 조회와 같은 순서(최근 생성 순)에 들어가는지
+ */
+class LobbyServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private GameRoomRepository gameRoomRepository;
+    private SimpMessagingTemplate messagingTemplate;
+    private LobbyService lobbyService;
+
+    private final GameRoom newest = room(1L, NOW, GameRoom.RoomStatus.WAITING);
+    private final GameRoom oldest = room(2L, NOW.minusMinutes(20), GameRoom.RoomStatus.WAITING);
+
+    @BeforeEach
+    void setUp() {
+        gameRoomRepository = mock(GameRoomRepository.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        // DB 조회는 최근 생성 순
+        when(gameRoomRepository.findWithHostByStatus(GameRoom.RoomStatus.WAITING)).thenReturn(List.of(newest, oldest));
+        lobbyService = new LobbyService(gameRoomRepository, messagingTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void snapshotIsLoadedOnceInCreationOrder() {
+        LobbyEventDto first = lobbyService.getSnapshot();
+        LobbyEventDto second = lobbyService.getSnapshot();
+
+        assertEquals("SNAPSHOT", first.getType());
+        assertEquals(0L, first.getVersion());
+        assertEquals(List.of(1L, 2L), ids(first.getRooms()));
+        assertEquals(first.getRooms(), second.getRooms());
+        verify(gameRoomRepository, times(1)).findWithHostByStatus(GameRoom.RoomStatus.WAITING);
+    }
+
+    @Test
+    void deltasFollowSnapshotWithoutGaps() {
+        LobbyEventDto snapshot = lobbyService.getSnapshot();
+
+        GameRoom created = room(3L, NOW.plusMinutes(1), GameRoom.RoomStatus.WAITING);
+        lobbyService.roomChanged(created);
+        newest.setStatus(GameRoom.RoomStatus.PLAYING);
+        lobbyService.roomChanged(newest);
+        lobbyService.roomDeleted(oldest.getId());
+
+        List<LobbyEventDto> events = publishedEvents(3);
+        assertEquals(List.of("ROOM_ADDED", "ROOM_STATUS", "ROOM_REMOVED"),
+                events.stream().map(LobbyEventDto::getType).collect(Collectors.toList()));
+        // 처음 목록 버전 다음부터 1씩 (클라이언트가 빠진 변경분으로 보고 다시 받지 않도록)
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(snapshot.getVersion() + i + 1, events.get(i).getVersion());
+        }
+        assertEquals("PLAYING", events.get(1).getStatus());
+
+        // 처음 목록에 변경분을 차례로 적용하면 지금 목록과 같음
+        assertEquals(ids(apply(snapshot.getRooms(), events)), ids(lobbyService.getSnapshot().getRooms()));
+        assertEquals(List.of(3L), ids(lobbyService.getSnapshot().getRooms()));
+        assertEquals(3L, lobbyService.getSnapshot().getVersion());
+    }
+
+    @Test
+    void changesThatDoNotTouchListDoNotAdvanceVersion() {
+        lobbyService.getSnapshot();
+
+        // 이미 목록에 있는 대기방, 목록에 없는 방의 상태 변경과 삭제
+        lobbyService.roomChanged(newest);
+        lobbyService.roomChanged(room(9L, NOW, GameRoom.RoomStatus.PLAYING));
+        lobbyService.roomDeleted(9L);
+
+        verify(messagingTemplate, never()).convertAndSend(eq(LobbyService.LOBBY_TOPIC), any(Object.class));
+        assertEquals(0L, lobbyService.getSnapshot().getVersion());
+
+        // 다음 변경분은 버전이 건너뛰지 않음
+        lobbyService.roomDeleted(oldest.getId());
+        assertEquals(1L, publishedEvents(1).get(0).getVersion());
+    }
+
+    @Test
+    void roomReturningToWaitingIsInsertedByCreationTime() {
+        GameRoom middle = room(4L, NOW.minusMinutes(10), GameRoom.RoomStatus.PLAYING);
+        lobbyService.getSnapshot();
+
+        middle.setStatus(GameRoom.RoomStatus.WAITING);
+        lobbyService.roomChanged(middle);
+
+        assertEquals(List.of(1L, 4L, 2L), ids(lobbyService.getSnapshot().getRooms()));
+        LobbyEventDto added = publishedEvents(1).get(0);
+        assertEquals("ROOM_ADDED", added.getType());
+        assertEquals(4L, added.getRoom().getId());
+    }
+
+    @Test
+    void changesApplyOnlyAfterCommit() {
+        lobbyService.getSnapshot();
+        TransactionSynchronizationManager.initSynchronization();
+        lobbyService.roomDeleted(oldest.getId());
+
+        assertEquals(List.of(1L, 2L), ids(lobbyService.getSnapshot().getRooms()));
+        verify(messagingTemplate, never()).convertAndSend(eq(LobbyService.LOBBY_TOPIC), any(Object.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(1L), ids(lobbyService.getSnapshot().getRooms()));
+        assertEquals(1L, publishedEvents(1).get(0).getVersion());
+    }
+
+    private List<LobbyEventDto> publishedEvents(int count) {
+        ArgumentCaptor<LobbyEventDto> captor = ArgumentCaptor.forClass(LobbyEventDto.class);
+        verify(messagingTemplate, times(count)).convertAndSend(eq(LobbyService.LOBBY_TOPIC), captor.capture());
+        return captor.getAllValues();
+    }
+
+    /**
+     * 클라이언트처럼 변경분을 목록에 적용
+     */
+    private static List<RoomDto> apply(List<RoomDto> rooms, List<LobbyEventDto> events) {
+        List<RoomDto> result = new ArrayList<>(rooms);
+        for (LobbyEventDto event : events) {
+            result.removeIf(room -> room.getId().equals(event.getRoomId()));
+            if ("ROOM_ADDED".equals(event.getType())) {
+                int index = 0;
+                while (index < result.size()
+                        && !result.get(index).getCreatedAt().isBefore(event.getRoom().getCreatedAt())) {
+                    index++;
+                }
+                result.add(index, event.getRoom());
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> ids(List<RoomDto> rooms) {
+        return rooms.stream().map(RoomDto::getId).collect(Collectors.toList());
+    }
+
+    private static GameRoom room(Long id, LocalDateTime createdAt, GameRoom.RoomStatus status) {
+        User host = new User();
+        host.setId(id * 10);
+        host.setName("host" + id);
+        GameRoom room = new GameRoom();
+        room.setId(id);
+        room.setHost(host);
+        room.setStatus(status);
+        room.setCreatedAt(createdAt);
+        return room;
+    }
+}
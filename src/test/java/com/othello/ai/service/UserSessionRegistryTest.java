@@ -0,0 +1,86 @@
+package com.othello.ai.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자별 세션 수와 방 목록 검사 (마지막 세션이 닫혀야 연결 끊김으로 보고, 방 목록은 한 번만 불러옴)
+ */
+class UserSessionRegistryTest {
+
+    private static final Long USER_ID = 5L;
+
+    private final UserSessionRegistry registry = new UserSessionRegistry();
+
+    @Test
+    void onlyLastSessionCountsAsDisconnect() {
+        registry.sessionOpened(USER_ID, "tab-1");
+        registry.sessionOpened(USER_ID, "tab-2");
+
+        assertFalse(registry.sessionClosed(USER_ID, "tab-1"));
+        // 같은 세션이 두 번 닫혀도 남은 세션은 그대로
+        assertFalse(registry.sessionClosed(USER_ID, "tab-1"));
+        assertTrue(registry.sessionClosed(USER_ID, "tab-2"));
+    }
+
+    @Test
+    void reconnectAfterLastSessionStartsOver() {
+        registry.sessionOpened(USER_ID, "tab-1");
+        assertTrue(registry.sessionClosed(USER_ID, "tab-1"));
+        registry.release(USER_ID);
+
+        registry.sessionOpened(USER_ID, "tab-2");
+        registry.sessionOpened(USER_ID, "tab-3");
+        assertFalse(registry.sessionClosed(USER_ID, "tab-3"));
+        assertTrue(registry.sessionClosed(USER_ID, "tab-2"));
+    }
+
+    @Test
+    void unknownUserCountsAsDisconnected() {
+        assertTrue(registry.sessionClosed(USER_ID, "tab-1"));
+    }
+
+    @Test
+    void roomsAreLoadedOnceAndKeptUpToDate() {
+        AtomicInteger loads = new AtomicInteger();
+        registry.sessionOpened(USER_ID, "tab-1");
+        // 불러오기 전 추가는 건너뜀 (불러올 때 DB에 이미 있음)
+        registry.addRoom(USER_ID, 99L);
+
+        assertEquals(Set.of(1L, 2L), registry.getRooms(USER_ID, () -> {
+            loads.incrementAndGet();
+            return List.of(1L, 2L);
+        }));
+        registry.addRoom(USER_ID, 3L);
+        registry.removeRoom(USER_ID, 1L);
+        assertEquals(Set.of(2L, 3L), registry.getRooms(USER_ID, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void releaseKeepsUserWithOpenSessions() {
+        AtomicInteger loads = new AtomicInteger();
+        registry.sessionOpened(USER_ID, "tab-1");
+        registry.sessionOpened(USER_ID, "tab-2");
+        registry.getRooms(USER_ID, () -> List.of(loads.incrementAndGet() * 1L));
+
+        registry.sessionClosed(USER_ID, "tab-1");
+        registry.release(USER_ID);
+        assertEquals(Set.of(1L), registry.getRooms(USER_ID, () -> List.of(loads.incrementAndGet() * 1L)));
+
+        // 마지막 세션이 닫힌 뒤 놓아주면 다음에 다시 불러옴
+        registry.sessionClosed(USER_ID, "tab-2");
+        registry.release(USER_ID);
+        assertEquals(Set.of(2L), registry.getRooms(USER_ID, () -> List.of(loads.incrementAndGet() * 1L)));
+    }
+}